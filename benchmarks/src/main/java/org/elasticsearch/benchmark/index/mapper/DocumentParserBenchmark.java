@@ -0,0 +1,217 @@
+/*
+ * Licensed to Elasticsearch under one or more contributor
+ * license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright
+ * ownership. Elasticsearch licenses this file to you under
+ * the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.elasticsearch.benchmark.index.mapper;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.elasticsearch.Version;
+import org.elasticsearch.cluster.metadata.IndexMetadata;
+import org.elasticsearch.common.Strings;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.compress.CompressedXContent;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.xcontent.NamedXContentRegistry;
+import org.elasticsearch.common.xcontent.XContentBuilder;
+import org.elasticsearch.common.xcontent.XContentFactory;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.index.IndexSettings;
+import org.elasticsearch.index.analysis.AnalyzerScope;
+import org.elasticsearch.index.analysis.IndexAnalyzers;
+import org.elasticsearch.index.analysis.NamedAnalyzer;
+import org.elasticsearch.index.mapper.DocumentMapper;
+import org.elasticsearch.index.mapper.MapperService;
+import org.elasticsearch.index.mapper.Mapping;
+import org.elasticsearch.index.mapper.ParsedDocument;
+import org.elasticsearch.index.mapper.SourceToParse;
+import org.elasticsearch.index.similarity.SimilarityService;
+import org.elasticsearch.indices.IndicesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Measures the cost of turning a JSON source into Lucene documents with {@link DocumentMapper#parse(SourceToParse)} for a few
+ * representative mappings. Dynamic mapping updates are applied during setup so that the benchmark measures steady-state parsing.
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 7)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class DocumentParserBenchmark {
+
+    private static final int NUM_DOCS = 1000;
+
+    @Param({ "1600172297" })
+    long seed;
+
+    @Param({ "dynamic", "keywords", "numerics", "nested" })
+    String mapping;
+
+    private MapperService mapperService;
+    private BytesReference[] sources;
+    private int doc;
+
+    @Setup
+    public void setup() throws IOException {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .put(MapperService.INDEX_MAPPING_TOTAL_FIELDS_LIMIT_SETTING.getKey(), 10_000)
+            .build();
+        IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("benchmark").settings(settings).build(), Settings.EMPTY);
+        NamedAnalyzer defaultAnalyzer = new NamedAnalyzer("default", AnalyzerScope.INDEX, new StandardAnalyzer());
+        Map<String, NamedAnalyzer> analyzers = Collections.singletonMap("default", defaultAnalyzer);
+        IndexAnalyzers indexAnalyzers = new IndexAnalyzers(analyzers, Collections.emptyMap(), Collections.emptyMap());
+        mapperService = new MapperService(
+            indexSettings,
+            indexAnalyzers,
+            NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, null, Collections.emptyMap()),
+            new IndicesModule(emptyList()).getMapperRegistry(),
+            () -> null,
+            () -> false,
+            null
+        );
+        mapperService.merge(MapperService.SINGLE_MAPPING_NAME, new CompressedXContent(mapping()), MapperService.MergeReason.MAPPING_UPDATE);
+
+        Random random = new Random(seed);
+        sources = new BytesReference[NUM_DOCS];
+        for (int i = 0; i < NUM_DOCS; i++) {
+            sources[i] = source(random);
+            // apply dynamic mapping updates up-front, just like the primary does before it replicates an operation
+            ParsedDocument parsed = parse(i);
+            Mapping update = parsed.dynamicMappingsUpdate();
+            if (update != null) {
+                mapperService.merge(
+                    MapperService.SINGLE_MAPPING_NAME,
+                    new CompressedXContent(update.toString()),
+                    MapperService.MergeReason.MAPPING_UPDATE
+                );
+            }
+        }
+    }
+
+    private String mapping() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject().startObject(MapperService.SINGLE_MAPPING_NAME);
+        builder.startObject("properties");
+        switch (mapping) {
+            case "dynamic":
+                break;
+            case "keywords":
+                for (int i = 0; i < 50; i++) {
+                    builder.startObject("keyword_" + i).field("type", "keyword").endObject();
+                }
+                break;
+            case "numerics":
+                for (int i = 0; i < 50; i++) {
+                    builder.startObject("long_" + i).field("type", "long").endObject();
+                    builder.startObject("double_" + i).field("type", "double").endObject();
+                }
+                break;
+            case "nested":
+                builder.startObject("message").field("type", "text").endObject();
+                builder.startObject("events").field("type", "nested");
+                {
+                    builder.startObject("properties");
+                    builder.startObject("name").field("type", "keyword").endObject();
+                    builder.startObject("value").field("type", "long").endObject();
+                    builder.startObject("timestamp").field("type", "date").endObject();
+                    builder.endObject();
+                }
+                builder.endObject();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown mapping [" + mapping + "]");
+        }
+        return Strings.toString(builder.endObject().endObject().endObject());
+    }
+
+    private BytesReference source(Random random) throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        switch (mapping) {
+            case "dynamic":
+                builder.field("@timestamp", 1600000000000L + random.nextInt(1_000_000));
+                builder.field("message", "message " + random.nextInt(1000) + " from host " + random.nextInt(100));
+                builder.startObject("host").field("name", "host-" + random.nextInt(100)).field("ip", "10.0.0." + random.nextInt(256));
+                builder.endObject();
+                for (int i = 0; i < 20; i++) {
+                    builder.field("metric_" + i, random.nextDouble());
+                }
+                break;
+            case "keywords":
+                for (int i = 0; i < 50; i++) {
+                    builder.field("keyword_" + i, "value-" + random.nextInt(10_000));
+                }
+                break;
+            case "numerics":
+                for (int i = 0; i < 50; i++) {
+                    builder.field("long_" + i, random.nextLong());
+                    builder.field("double_" + i, random.nextDouble());
+                }
+                break;
+            case "nested":
+                builder.field("message", "message " + random.nextInt(1000) + " from host " + random.nextInt(100));
+                builder.startArray("events");
+                int events = 1 + random.nextInt(10);
+                for (int i = 0; i < events; i++) {
+                    builder.startObject();
+                    builder.field("name", "event-" + random.nextInt(50));
+                    builder.field("value", random.nextInt());
+                    builder.field("timestamp", 1600000000000L + random.nextInt(1_000_000));
+                    builder.endObject();
+                }
+                builder.endArray();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown mapping [" + mapping + "]");
+        }
+        return BytesReference.bytes(builder.endObject());
+    }
+
+    private ParsedDocument parse(int i) {
+        DocumentMapper documentMapper = mapperService.documentMapper();
+        return documentMapper.parse(new SourceToParse("benchmark", Integer.toString(i), sources[i], XContentType.JSON));
+    }
+
+    @Benchmark
+    public ParsedDocument parseDocument() {
+        int i = doc;
+        doc = (i + 1) % NUM_DOCS;
+        return parse(i);
+    }
+}
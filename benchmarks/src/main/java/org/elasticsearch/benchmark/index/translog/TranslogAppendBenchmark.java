@@ -0,0 +1,125 @@
+/*
+ * Licensed to Elasticsearch under one or more contributor
+ * license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright
+ * ownership. Elasticsearch licenses this file to you under
+ * the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.elasticsearch.benchmark.index.translog;
+
+import org.elasticsearch.Version;
+import org.elasticsearch.cluster.metadata.IndexMetadata;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.core.internal.io.IOUtils;
+import org.elasticsearch.index.IndexSettings;
+import org.elasticsearch.index.seqno.SequenceNumbers;
+import org.elasticsearch.index.shard.ShardId;
+import org.elasticsearch.index.translog.Translog;
+import org.elasticsearch.index.translog.TranslogConfig;
+import org.elasticsearch.index.translog.TranslogDeletionPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of appending index operations to the translog, optionally fsyncing after every operation as
+ * {@code index.translog.durability: request} does for single-document requests.
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 7)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class TranslogAppendBenchmark {
+
+    // roll and trim the translog regularly so that it does not grow for the whole duration of the benchmark
+    private static final int OPERATIONS_PER_GENERATION = 100_000;
+
+    @Param({ "1600172297" })
+    long seed;
+
+    @Param({ "256", "4096" })
+    int sourceSize;
+
+    @Param({ "false", "true" })
+    boolean syncEveryOperation;
+
+    private Path translogPath;
+    private Translog translog;
+    private byte[] source;
+    private long seqNo;
+
+    @Setup
+    public void setup() throws IOException {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .build();
+        IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("benchmark").settings(settings).build(), Settings.EMPTY);
+        ShardId shardId = new ShardId(indexSettings.getIndex(), 0);
+        translogPath = Files.createTempDirectory("translog-benchmark");
+        String translogUUID = Translog.createEmptyTranslog(translogPath, SequenceNumbers.NO_OPS_PERFORMED, shardId, 1L);
+        TranslogConfig config = new TranslogConfig(shardId, translogPath, indexSettings, BigArrays.NON_RECYCLING_INSTANCE);
+        translog = new Translog(
+            config,
+            translogUUID,
+            new TranslogDeletionPolicy(),
+            () -> SequenceNumbers.NO_OPS_PERFORMED,
+            () -> 1L,
+            persistedSeqNo -> {}
+        );
+        source = new byte[sourceSize];
+        new Random(seed).nextBytes(source);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        IOUtils.close(translog);
+        IOUtils.rm(translogPath);
+    }
+
+    @Benchmark
+    public Translog.Location add() throws IOException {
+        final long opSeqNo = seqNo++;
+        Translog.Location location = translog.add(new Translog.Index(Long.toString(opSeqNo), opSeqNo, 1L, source));
+        if (syncEveryOperation) {
+            translog.ensureSynced(location);
+        }
+        if (seqNo % OPERATIONS_PER_GENERATION == 0) {
+            translog.getDeletionPolicy().setLocalCheckpointOfSafeCommit(opSeqNo);
+            translog.rollGeneration();
+            translog.trimUnreferencedReaders();
+        }
+        return location;
+    }
+}
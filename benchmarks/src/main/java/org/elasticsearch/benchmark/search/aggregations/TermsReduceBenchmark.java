@@ -117,7 +117,8 @@ public class TermsReduceBenchmark {
         @Param({ "100" })
         int topNSize;
 
-        @Param({ "1", "10", "100" })
+        // high cardinality factors make the final reduce merge many more buckets than it keeps
+        @Param({ "1", "10", "100", "1000" })
         int cardinalityFactor;
 
         List<InternalAggregations> aggsList;
@@ -0,0 +1,104 @@
+/*
+ * Licensed to Elasticsearch under one or more contributor
+ * license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright
+ * ownership. Elasticsearch licenses this file to you under
+ * the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.elasticsearch.benchmark.search.aggregations.bucket.terms;
+
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.common.util.BytesRefHash;
+import org.elasticsearch.common.util.PageCacheRecycler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BytesRefHash} the way that the terms aggregation uses it
+ * to collect high cardinality keyword fields.
+ */
+@Fork(2)
+@Warmup(iterations = 10)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(1_000_000)
+@State(Scope.Benchmark)
+public class BytesRefHashBenchmark {
+    private static final int LIMIT = 1_000_000;
+
+    /**
+     * The number of distinct keys to add to the hash.
+     */
+    @Param({ "100", "10000", "1000000" })
+    public int distinctKeys;
+
+    private final PageCacheRecycler recycler = new PageCacheRecycler(Settings.EMPTY);
+    private final BigArrays bigArrays = new BigArrays(recycler, null, "REQUEST");
+
+    private BytesRef[] keys;
+    private BytesRefHash populated;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        keys = new BytesRef[distinctKeys];
+        for (int i = 0; i < distinctKeys; i++) {
+            keys[i] = new BytesRef(("key-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        populated = new BytesRefHash(distinctKeys, bigArrays);
+        for (BytesRef key : keys) {
+            populated.add(key);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        populated.close();
+    }
+
+    @Benchmark
+    public void add(Blackhole bh) {
+        try (BytesRefHash hash = new BytesRefHash(1, bigArrays)) {
+            for (int i = 0; i < LIMIT; i++) {
+                bh.consume(hash.add(keys[i % distinctKeys]));
+            }
+        }
+    }
+
+    @Benchmark
+    public void find(Blackhole bh) {
+        for (int i = 0; i < LIMIT; i++) {
+            bh.consume(populated.find(keys[i % distinctKeys]));
+        }
+    }
+}
@@ -394,6 +394,45 @@ public class IndicesRequestCacheIT extends ESIntegTestCase {
         assertCacheState(client, "index", 0, 4);
     }
 
+    public void testCacheHitsOnWriteBlockedIndex() throws Exception {
+        Client client = client();
+        Settings settings = Settings.builder().put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1).put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0).build();
+        assertAcked(client.admin().indices().prepareCreate("index").setMapping("s", "type=date")
+            .setSettings(settings)
+            .get());
+        indexRandom(true, client.prepareIndex("index").setId("1").setSource("s", "2016-03-19"),
+            client.prepareIndex("index").setId("2").setSource("s", "2016-03-20"),
+            client.prepareIndex("index").setId("3").setSource("s", "2016-03-21"));
+        // Force merge the index to ensure there can be no background merges during the subsequent searches that would invalidate the cache
+        ForceMergeResponse forceMergeResponse = client.admin().indices().prepareForceMerge("index").setFlush(true).get();
+        ElasticsearchAssertions.assertAllSuccessful(forceMergeResponse);
+        refresh();
+        ensureSearchable("index");
+
+        assertCacheState(client, "index", 0, 0);
+
+        // If size > 0 we should not cache by default while the index accepts writes
+        final SearchResponse r1 = client.prepareSearch("index").setSearchType(SearchType.QUERY_THEN_FETCH).setSize(1)
+            .setQuery(QueryBuilders.rangeQuery("s").gte("2016-03-19").lte("2016-03-20")).get();
+        ElasticsearchAssertions.assertAllSuccessful(r1);
+        assertThat(r1.getHits().getTotalHits().value, equalTo(2L));
+        assertCacheState(client, "index", 0, 0);
+
+        assertAcked(client.admin().indices().prepareUpdateSettings("index")
+            .setSettings(Settings.builder().put(IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.getKey(), true)));
+
+        // Once the index is blocked for writes, hits are cached too
+        for (int i = 0; i < 2; i++) {
+            final SearchResponse r2 = client.prepareSearch("index").setSearchType(SearchType.QUERY_THEN_FETCH).setSize(1)
+                .setQuery(QueryBuilders.rangeQuery("s").gte("2016-03-19").lte("2016-03-20")).get();
+            ElasticsearchAssertions.assertAllSuccessful(r2);
+            assertThat(r2.getHits().getTotalHits().value, equalTo(2L));
+            assertThat(r2.getHits().getHits().length, equalTo(1));
+            assertCacheState(client, "index", i, 1);
+        }
+    }
+
     public void testCacheWithFilteredAlias() {
         Client client = client();
         Settings settings = Settings.builder().put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
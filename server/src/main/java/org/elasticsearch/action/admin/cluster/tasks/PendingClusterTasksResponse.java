@@ -19,7 +19,9 @@
 
 package org.elasticsearch.action.admin.cluster.tasks;
 
+import org.elasticsearch.Version;
 import org.elasticsearch.action.ActionResponse;
+import org.elasticsearch.cluster.service.ClusterStateTaskExecutionStats;
 import org.elasticsearch.cluster.service.PendingClusterTask;
 import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.io.stream.StreamOutput;
@@ -27,20 +29,30 @@ import org.elasticsearch.common.xcontent.ToXContentObject;
 import org.elasticsearch.common.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 public class PendingClusterTasksResponse extends ActionResponse implements Iterable<PendingClusterTask>, ToXContentObject {
 
     private final List<PendingClusterTask> pendingTasks;
+    private final Map<String, ClusterStateTaskExecutionStats> executionStats;
 
     public PendingClusterTasksResponse(StreamInput in) throws IOException {
         super(in);
         pendingTasks = in.readList(PendingClusterTask::new);
+        if (in.getVersion().onOrAfter(Version.V_8_0_0)) {
+            executionStats = in.readMap(StreamInput::readString, ClusterStateTaskExecutionStats::new);
+        } else {
+            executionStats = Collections.emptyMap();
+        }
     }
 
-    PendingClusterTasksResponse(List<PendingClusterTask> pendingTasks) {
+    PendingClusterTasksResponse(List<PendingClusterTask> pendingTasks, Map<String, ClusterStateTaskExecutionStats> executionStats) {
         this.pendingTasks = pendingTasks;
+        this.executionStats = executionStats;
     }
 
     public List<PendingClusterTask> pendingTasks() {
@@ -54,6 +66,14 @@ public class PendingClusterTasksResponse extends ActionResponse implements Itera
         return pendingTasks();
     }
 
+    /**
+     * Statistics about the batches of tasks that the elected master executed, keyed by the description of their executor.
+     * Empty if the node that handled the request is not the elected master.
+     */
+    public Map<String, ClusterStateTaskExecutionStats> getExecutionStats() {
+        return executionStats;
+    }
+
     @Override
     public Iterator<PendingClusterTask> iterator() {
         return pendingTasks.iterator();
@@ -85,6 +105,13 @@ public class PendingClusterTasksResponse extends ActionResponse implements Itera
             builder.endObject();
         }
         builder.endArray();
+        if (executionStats.isEmpty() == false) {
+            builder.startObject(Fields.EXECUTORS);
+            for (Map.Entry<String, ClusterStateTaskExecutionStats> entry : new TreeMap<>(executionStats).entrySet()) {
+                builder.field(entry.getKey(), entry.getValue());
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
@@ -98,12 +125,16 @@ public class PendingClusterTasksResponse extends ActionResponse implements Itera
         static final String SOURCE = "source";
         static final String TIME_IN_QUEUE_MILLIS = "time_in_queue_millis";
         static final String TIME_IN_QUEUE = "time_in_queue";
+        static final String EXECUTORS = "executors";
 
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeList(pendingTasks);
+        if (out.getVersion().onOrAfter(Version.V_8_0_0)) {
+            out.writeMap(executionStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+        }
     }
 
 }
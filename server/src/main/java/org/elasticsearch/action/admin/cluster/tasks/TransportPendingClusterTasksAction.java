@@ -28,13 +28,16 @@ import org.elasticsearch.cluster.ClusterState;
 import org.elasticsearch.cluster.block.ClusterBlockException;
 import org.elasticsearch.cluster.metadata.IndexNameExpressionResolver;
 import org.elasticsearch.cluster.service.ClusterService;
+import org.elasticsearch.cluster.service.ClusterStateTaskExecutionStats;
 import org.elasticsearch.cluster.service.PendingClusterTask;
 import org.elasticsearch.common.inject.Inject;
 import org.elasticsearch.tasks.Task;
 import org.elasticsearch.threadpool.ThreadPool;
 import org.elasticsearch.transport.TransportService;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public class TransportPendingClusterTasksAction
         extends TransportMasterNodeReadAction<PendingClusterTasksRequest, PendingClusterTasksResponse> {
@@ -63,6 +66,10 @@ public class TransportPendingClusterTasksAction
         logger.trace("fetching pending tasks from cluster service");
         final List<PendingClusterTask> pendingTasks = clusterService.getMasterService().pendingTasks();
         logger.trace("done fetching pending tasks from cluster service");
-        listener.onResponse(new PendingClusterTasksResponse(pendingTasks));
+        // a local request may be handled by a node that is not the elected master, whose stats would be misleading
+        final Map<String, ClusterStateTaskExecutionStats> executionStats = state.nodes().isLocalNodeElectedMaster()
+            ? clusterService.getMasterService().executionStats()
+            : Collections.emptyMap();
+        listener.onResponse(new PendingClusterTasksResponse(pendingTasks, executionStats));
     }
 }
@@ -167,6 +167,11 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
         final long indexingBytes = bulkRequest.ramBytesUsed();
         final boolean isOnlySystem = isOnlySystem(bulkRequest, clusterService.state().metadata().getIndicesLookup(), systemIndices);
         final Releasable releasable = indexingPressure.markCoordinatingOperationStarted(indexingBytes, isOnlySystem);
+        if (isOnlySystem == false && indexingPressure.isAboveSoftLimit()) {
+            // give clients a chance to back off before the node starts rejecting bulk requests outright
+            threadPool.getThreadContext().addResponseHeader(IndexingPressure.PRESSURE_RESPONSE_HEADER,
+                indexingPressure.getCurrentUtilizationPercent() + "%");
+        }
         final ActionListener<BulkResponse> releasingListener = ActionListener.runBefore(listener, releasable::close);
         final String executorName = isOnlySystem ? Names.SYSTEM_WRITE : Names.WRITE;
         try {
@@ -61,6 +61,20 @@ public interface ClusterStateTaskExecutor<T> {
         return String.join(", ", tasks.stream().map(t -> (CharSequence)t.toString()).filter(t -> t.length() > 0)::iterator);
     }
 
+    /**
+     * A short and stable description of this executor, used to group the statistics about the batches of tasks that it executed.
+     * Defaults to the name of the class that declares the executor, which for anonymous classes and lambdas is their enclosing class.
+     */
+    default String describeExecutor() {
+        Class<?> clazz = getClass();
+        while (clazz.isAnonymousClass()) {
+            clazz = clazz.getEnclosingClass();
+        }
+        final String name = clazz.getName();
+        final int lambdaIndex = name.indexOf("$$Lambda");
+        return lambdaIndex < 0 ? name : name.substring(0, lambdaIndex);
+    }
+
     /**
      * Represents the result of a batched execution of cluster state update tasks
      * @param <T> the type of the cluster state update task
@@ -40,6 +40,9 @@ import org.elasticsearch.common.io.stream.NamedWriteableRegistry;
 import org.elasticsearch.common.io.stream.OutputStreamStreamOutput;
 import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.io.stream.StreamOutput;
+import org.elasticsearch.common.settings.Setting;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.core.internal.io.IOUtils;
 import org.elasticsearch.threadpool.ThreadPool;
 import org.elasticsearch.transport.BytesTransportRequest;
@@ -66,9 +69,27 @@ public class PublicationTransportHandler {
     public static final String PUBLISH_STATE_ACTION_NAME = "internal:cluster/coordination/publish_state";
     public static final String COMMIT_STATE_ACTION_NAME = "internal:cluster/coordination/commit_state";
 
+    /**
+     * The compressor used for the cluster states and diffs that the master publishes. Nodes before 8.0.0 can only read states compressed
+     * with DEFLATE so they always receive those.
+     */
+    public static final Setting<Compressor> PUBLISH_COMPRESSOR_SETTING = new Setting<>("cluster.publish.compressor", "deflate", (s) -> {
+        switch (s) {
+            case "deflate":
+                return CompressorFactory.COMPRESSOR;
+            case "lz4":
+                return CompressorFactory.LZ4;
+            default:
+                throw new IllegalArgumentException("unrecognized [cluster.publish.compressor] \"" + s + "\": must be deflate or lz4");
+        }
+    }, Setting.Property.NodeScope);
+
+    private static final Version LZ4_PUBLICATION_VERSION = Version.V_8_0_0;
+
     private final TransportService transportService;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest;
+    private final Compressor compressor;
 
     private final AtomicReference<ClusterState> lastSeenClusterState = new AtomicReference<>();
 
@@ -87,12 +108,14 @@ public class PublicationTransportHandler {
     private final TransportRequestOptions stateRequestOptions = TransportRequestOptions.builder()
         .withType(TransportRequestOptions.Type.STATE).build();
 
-    public PublicationTransportHandler(TransportService transportService, NamedWriteableRegistry namedWriteableRegistry,
+    public PublicationTransportHandler(Settings settings, TransportService transportService,
+                                       NamedWriteableRegistry namedWriteableRegistry,
                                        Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest,
                                        BiConsumer<ApplyCommitRequest, ActionListener<Void>> handleApplyCommit) {
         this.transportService = transportService;
         this.namedWriteableRegistry = namedWriteableRegistry;
         this.handlePublishRequest = handlePublishRequest;
+        this.compressor = PUBLISH_COMPRESSOR_SETTING.get(settings);
 
         transportService.registerRequestHandler(PUBLISH_STATE_ACTION_NAME, ThreadPool.Names.GENERIC, false, false,
             BytesTransportRequest::new, (request, channel, task) -> channel.sendResponse(handleIncomingPublishRequest(request)));
@@ -216,9 +239,17 @@ public class PublicationTransportHandler {
         return publicationContext;
     }
 
-    private static BytesReference serializeFullClusterState(ClusterState clusterState, Version nodeVersion) throws IOException {
+    /**
+     * Returns the compressor to use for the states and diffs published to nodes of the given version.
+     */
+    Compressor compressor(Version nodeVersion) {
+        return nodeVersion.onOrAfter(LZ4_PUBLICATION_VERSION) ? compressor : CompressorFactory.COMPRESSOR;
+    }
+
+    static BytesReference serializeFullClusterState(ClusterState clusterState, Version nodeVersion,
+                                                    Compressor compressor) throws IOException {
         final BytesStreamOutput bStream = new BytesStreamOutput();
-        try (StreamOutput stream = new OutputStreamStreamOutput(CompressorFactory.COMPRESSOR.threadLocalOutputStream(bStream))) {
+        try (StreamOutput stream = new OutputStreamStreamOutput(compressor.threadLocalOutputStream(bStream))) {
             stream.setVersion(nodeVersion);
             stream.writeBoolean(true);
             clusterState.writeTo(stream);
@@ -229,9 +260,10 @@ public class PublicationTransportHandler {
         return serializedState;
     }
 
-    private static BytesReference serializeDiffClusterState(Diff<ClusterState> diff, Version nodeVersion) throws IOException {
+    static BytesReference serializeDiffClusterState(Diff<ClusterState> diff, Version nodeVersion,
+                                                    Compressor compressor) throws IOException {
         final BytesStreamOutput bStream = new BytesStreamOutput();
-        try (StreamOutput stream = new OutputStreamStreamOutput(CompressorFactory.COMPRESSOR.threadLocalOutputStream(bStream))) {
+        try (StreamOutput stream = new OutputStreamStreamOutput(compressor.threadLocalOutputStream(bStream))) {
             stream.setVersion(nodeVersion);
             stream.writeBoolean(false);
             diff.writeTo(stream);
@@ -261,12 +293,14 @@ public class PublicationTransportHandler {
         }
 
         void buildDiffAndSerializeStates() {
+            final long startTimeNS = System.nanoTime();
             Diff<ClusterState> diff = null;
             for (DiscoveryNode node : discoveryNodes) {
                 try {
                     if (sendFullVersion || previousState.nodes().nodeExists(node) == false) {
                         if (serializedStates.containsKey(node.getVersion()) == false) {
-                            serializedStates.put(node.getVersion(), serializeFullClusterState(newState, node.getVersion()));
+                            serializedStates.put(node.getVersion(),
+                                serializeFullClusterState(newState, node.getVersion(), compressor(node.getVersion())));
                         }
                     } else {
                         // will send a diff
@@ -274,7 +308,8 @@ public class PublicationTransportHandler {
                             diff = newState.diff(previousState);
                         }
                         if (serializedDiffs.containsKey(node.getVersion()) == false) {
-                            final BytesReference serializedDiff = serializeDiffClusterState(diff, node.getVersion());
+                            final BytesReference serializedDiff =
+                                serializeDiffClusterState(diff, node.getVersion(), compressor(node.getVersion()));
                             serializedDiffs.put(node.getVersion(), serializedDiff);
                             logger.trace("serialized cluster state diff for version [{}] in for node version [{}] with size [{}]",
                                 newState.version(), node.getVersion(), serializedDiff.length());
@@ -284,6 +319,8 @@ public class PublicationTransportHandler {
                     throw new ElasticsearchException("failed to serialize cluster state for publishing to node {}", e, node);
                 }
             }
+            logger.trace("serialized cluster state version [{}] for publication in [{}]",
+                newState.version(), TimeValue.timeValueNanos(System.nanoTime() - startTimeNS));
         }
 
         public void sendPublishRequest(DiscoveryNode destination, PublishRequest publishRequest,
@@ -354,7 +391,7 @@ public class PublicationTransportHandler {
             BytesReference bytes = serializedStates.get(destination.getVersion());
             if (bytes == null) {
                 try {
-                    bytes = serializeFullClusterState(newState, destination.getVersion());
+                    bytes = serializeFullClusterState(newState, destination.getVersion(), compressor(destination.getVersion()));
                     serializedStates.put(destination.getVersion(), bytes);
                 } catch (Exception e) {
                     logger.warn(() -> new ParameterizedMessage(
@@ -0,0 +1,130 @@
+/*
+ * Licensed to Elasticsearch under one or more contributor
+ * license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright
+ * ownership. Elasticsearch licenses this file to you under
+ * the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.elasticsearch.cluster.service;
+
+import org.elasticsearch.common.io.stream.StreamInput;
+import org.elasticsearch.common.io.stream.StreamOutput;
+import org.elasticsearch.common.io.stream.Writeable;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.xcontent.ToXContentObject;
+import org.elasticsearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Statistics about the batches of cluster state update tasks that the {@link MasterService} executed with a single executor.
+ */
+public class ClusterStateTaskExecutionStats implements Writeable, ToXContentObject {
+
+    private final long batches;
+    private final long tasks;
+    private final long publications;
+    private final long computationTimeInMillis;
+
+    public ClusterStateTaskExecutionStats(long batches, long tasks, long publications, long computationTimeInMillis) {
+        this.batches = batches;
+        this.tasks = tasks;
+        this.publications = publications;
+        this.computationTimeInMillis = computationTimeInMillis;
+    }
+
+    public ClusterStateTaskExecutionStats(StreamInput in) throws IOException {
+        batches = in.readVLong();
+        tasks = in.readVLong();
+        publications = in.readVLong();
+        computationTimeInMillis = in.readVLong();
+    }
+
+    /**
+     * The number of batches of tasks that were executed.
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * The total number of tasks across all batches.
+     */
+    public long getTasks() {
+        return tasks;
+    }
+
+    /**
+     * The number of batches that changed the cluster state and therefore led to a publication.
+     */
+    public long getPublications() {
+        return publications;
+    }
+
+    public long getComputationTimeInMillis() {
+        return computationTimeInMillis;
+    }
+
+    /**
+     * The total time spent computing the new cluster state from the batches of tasks.
+     */
+    public TimeValue getComputationTime() {
+        return new TimeValue(computationTimeInMillis);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(batches);
+        out.writeVLong(tasks);
+        out.writeVLong(publications);
+        out.writeVLong(computationTimeInMillis);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(Fields.BATCHES, batches);
+        builder.field(Fields.TASKS, tasks);
+        builder.field(Fields.PUBLICATIONS, publications);
+        builder.humanReadableField(Fields.COMPUTATION_TIME_IN_MILLIS, Fields.COMPUTATION_TIME, getComputationTime());
+        builder.endObject();
+        return builder;
+    }
+
+    static final class Fields {
+        static final String BATCHES = "batches";
+        static final String TASKS = "tasks";
+        static final String PUBLICATIONS = "publications";
+        static final String COMPUTATION_TIME = "computation_time";
+        static final String COMPUTATION_TIME_IN_MILLIS = "computation_time_in_millis";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClusterStateTaskExecutionStats that = (ClusterStateTaskExecutionStats) o;
+        return batches == that.batches &&
+            tasks == that.tasks &&
+            publications == that.publications &&
+            computationTimeInMillis == that.computationTimeInMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(batches, tasks, publications, computationTimeInMillis);
+    }
+}
@@ -42,11 +42,13 @@ import org.elasticsearch.cluster.routing.RoutingTable;
 import org.elasticsearch.common.Nullable;
 import org.elasticsearch.common.Priority;
 import org.elasticsearch.common.component.AbstractLifecycleComponent;
+import org.elasticsearch.common.metrics.CounterMetric;
 import org.elasticsearch.common.settings.ClusterSettings;
 import org.elasticsearch.common.settings.Setting;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.text.Text;
 import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.util.concurrent.ConcurrentCollections;
 import org.elasticsearch.common.util.concurrent.CountDown;
 import org.elasticsearch.common.util.concurrent.EsExecutors;
 import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
@@ -92,6 +94,8 @@ public class MasterService extends AbstractLifecycleComponent {
     private volatile PrioritizedEsThreadPoolExecutor threadPoolExecutor;
     private volatile Batcher taskBatcher;
 
+    private final Map<String, ExecutionStatsTracker> executionStats = ConcurrentCollections.newConcurrentMap();
+
     public MasterService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool) {
         this.nodeName = Objects.requireNonNull(Node.NODE_NAME_SETTING.get(settings));
 
@@ -215,6 +219,8 @@ public class MasterService extends AbstractLifecycleComponent {
         taskOutputs.notifyFailedTasks();
         final TimeValue computationTime = getTimeSince(computationStartTime);
         logExecutionTime(computationTime, "compute cluster state update", summary);
+        executionStats.computeIfAbsent(taskInputs.executor.describeExecutor(), k -> new ExecutionStatsTracker())
+            .onBatch(taskInputs.updateTasks.size(), taskOutputs.clusterStateUnchanged() == false, computationTime.millis());
 
         if (taskOutputs.clusterStateUnchanged()) {
             final long notificationStartTime = threadPool.relativeTimeInMillis();
@@ -467,6 +473,14 @@ public class MasterService extends AbstractLifecycleComponent {
         }).collect(Collectors.toList());
     }
 
+    /**
+     * Returns statistics about the batches of tasks that this node executed since it started, keyed by the
+     * {@link ClusterStateTaskExecutor#describeExecutor() description} of their executor.
+     */
+    public Map<String, ClusterStateTaskExecutionStats> executionStats() {
+        return executionStats.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().stats()));
+    }
+
     /**
      * Returns the number of currently pending tasks.
      */
@@ -740,6 +754,27 @@ public class MasterService extends AbstractLifecycleComponent {
         }).collect(Collectors.toList());
     }
 
+    private static class ExecutionStatsTracker {
+        private final CounterMetric batches = new CounterMetric();
+        private final CounterMetric tasks = new CounterMetric();
+        private final CounterMetric publications = new CounterMetric();
+        private final CounterMetric computationTimeInMillis = new CounterMetric();
+
+        void onBatch(int batchSize, boolean clusterStateChanged, long computationTimeInMillis) {
+            batches.inc();
+            tasks.inc(batchSize);
+            if (clusterStateChanged) {
+                publications.inc();
+            }
+            this.computationTimeInMillis.inc(computationTimeInMillis);
+        }
+
+        ClusterStateTaskExecutionStats stats() {
+            return new ClusterStateTaskExecutionStats(batches.count(), tasks.count(), publications.count(),
+                computationTimeInMillis.count());
+        }
+    }
+
     /**
      * Represents a set of tasks to be processed together with their executor
      */
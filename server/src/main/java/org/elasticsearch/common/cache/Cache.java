@@ -29,6 +29,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -61,6 +63,12 @@ import java.util.function.ToLongBiFunction;
  * <li>Locks on the list could be taken per node being modified instead of globally.</li>
  * </ol>
  * <p>
+ * Caches that are read far more often than they are written can be built with
+ * {@link CacheBuilder#setReadBuffered(boolean)}. Cache hits then record the entry in one of several lock-free read
+ * buffers instead of acquiring the LRU lock, and the buffered promotions are applied in batches by whichever thread
+ * finds the LRU lock uncontended. Promotions are dropped when the buffers are full, so the LRU order becomes
+ * approximate in exchange for hits never blocking on the LRU lock.
+ * <p>
  * Evictions only occur after a mutation to the cache (meaning an entry promotion, a cache insertion, or a manual
  * invalidation) or an explicit call to {@link #refresh()}.
  *
@@ -97,6 +105,9 @@ public class Cache<K, V> {
     private RemovalListener<K, V> removalListener = notification -> {
     };
 
+    // non-null if promotions on cache hits are buffered instead of applied under the LRU lock
+    private ReadBuffer<K, V>[] readBuffers;
+
     // use CacheBuilder to construct
     Cache() {
     }
@@ -144,6 +155,23 @@ public class Cache<K, V> {
         this.removalListener = removalListener;
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void setReadBuffered(boolean readBuffered) {
+        if (readBuffered) {
+            readBuffers = new ReadBuffer[NUMBER_OF_READ_BUFFERS];
+            for (int i = 0; i < readBuffers.length; i++) {
+                readBuffers[i] = new ReadBuffer<>();
+            }
+        } else {
+            readBuffers = null;
+        }
+    }
+
+    // pkg-private for testing
+    boolean isReadBuffered() {
+        return readBuffers != null;
+    }
+
     /**
      * The relative time used to track time-based evictions.
      *
@@ -351,6 +379,33 @@ public class Cache<K, V> {
     // lock protecting mutations to the LRU list
     private final ReleasableLock lruLock = new ReleasableLock(new ReentrantLock());
 
+    // the number of read buffers, threads are spread over the buffers by their id to reduce contention on a single buffer
+    static final int NUMBER_OF_READ_BUFFERS = 16;
+
+    // the number of promotions a read buffer holds before it asks to be drained
+    static final int READ_BUFFER_SIZE = 64;
+
+    /**
+     * A bounded, lossy buffer of entries that were hit and need to be promoted in the LRU list. Slots are claimed with
+     * a single atomic increment; once all slots are claimed further promotions are dropped until the buffer is drained.
+     */
+    private static final class ReadBuffer<K, V> {
+        final AtomicReferenceArray<Entry<K, V>> entries = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        final AtomicInteger writeIndex = new AtomicInteger();
+
+        /**
+         * Records the entry and returns true if the buffer is full and should be drained.
+         */
+        boolean offer(Entry<K, V> entry) {
+            final int index = writeIndex.getAndIncrement();
+            if (index < READ_BUFFER_SIZE) {
+                entries.lazySet(index, entry);
+                return index == READ_BUFFER_SIZE - 1;
+            }
+            return true;
+        }
+    }
+
     /**
      * Returns the value to which the specified key is mapped, or null if this map contains no mapping for the key.
      *
@@ -367,11 +422,49 @@ public class Cache<K, V> {
         if (entry == null) {
             return null;
         } else {
-            promote(entry, now);
+            if (readBuffers != null && entry.state == State.EXISTING) {
+                bufferPromotion(entry, now);
+            } else {
+                promote(entry, now);
+            }
             return entry.value;
         }
     }
 
+    private void bufferPromotion(Entry<K, V> entry, long now) {
+        final ReadBuffer<K, V> readBuffer = readBuffers[(int) (Thread.currentThread().getId() % NUMBER_OF_READ_BUFFERS)];
+        if (readBuffer.offer(entry)) {
+            // skip draining if another thread holds the LRU lock, the buffered promotions will be applied by a later mutation
+            try (ReleasableLock locked = lruLock.tryAcquire()) {
+                if (locked != null) {
+                    // evicting drains the read buffers first
+                    evict(now);
+                }
+            }
+        }
+    }
+
+    private void drainReadBuffers() {
+        assert lruLock.isHeldByCurrentThread();
+
+        if (readBuffers == null) {
+            return;
+        }
+        for (ReadBuffer<K, V> readBuffer : readBuffers) {
+            // A reader may have claimed a slot but not yet written to it, or may write to a slot it claimed just before the write
+            // index is reset below. We therefore clear every slot rather than only the claimed ones, so that such late writes are
+            // picked up by the next drain instead of keeping a reference to an entry that may have been evicted in the meantime.
+            for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+                final Entry<K, V> entry = readBuffer.entries.getAndSet(i, null);
+                // entries that were deleted or invalidated since they were buffered must not be linked again
+                if (entry != null && entry.state == State.EXISTING) {
+                    relinkAtHead(entry);
+                }
+            }
+            readBuffer.writeIndex.set(0);
+        }
+    }
+
     /**
      * If the specified key is not already associated with a value (or is mapped to null), attempts to compute its
      * value using the given mapping function and enters it into this map unless null. The load method for a given key
@@ -751,6 +844,8 @@ public class Cache<K, V> {
     private void evict(long now) {
         assert lruLock.isHeldByCurrentThread();
 
+        drainReadBuffers();
+
         while (tail != null && shouldPrune(tail, now)) {
             evictEntry(tail);
         }
@@ -30,6 +30,7 @@ public class CacheBuilder<K, V> {
     private long expireAfterWriteNanos = -1;
     private ToLongBiFunction<K, V> weigher;
     private RemovalListener<K, V> removalListener;
+    private boolean readBuffered;
 
     public static <K, V> CacheBuilder<K, V> builder() {
         return new CacheBuilder<>();
@@ -90,6 +91,17 @@ public class CacheBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Sets whether promotions on cache hits are buffered and applied in batches rather than under the LRU lock on every hit. This keeps
+     * hot readers from contending on the LRU lock at the cost of an approximate LRU order.
+     *
+     * @param readBuffered {@code true} to buffer promotions on cache hits
+     */
+    public CacheBuilder<K, V> setReadBuffered(boolean readBuffered) {
+        this.readBuffered = readBuffered;
+        return this;
+    }
+
     public Cache<K, V> build() {
         Cache<K, V> cache = new Cache<>();
         if (maximumWeight != -1) {
@@ -107,6 +119,9 @@ public class CacheBuilder<K, V> {
         if (removalListener != null) {
             cache.setRemovalListener(removalListener);
         }
+        if (readBuffered) {
+            cache.setReadBuffered(true);
+        }
         return cache;
     }
 }
@@ -31,19 +31,29 @@ public class CompressorFactory {
 
     public static final Compressor COMPRESSOR = new DeflateCompressor();
 
+    /**
+     * A faster compressor than {@link #COMPRESSOR} with a lower compression ratio. Bytes that it produced are detected by
+     * {@link #compressor(BytesReference)}, but nodes on older versions cannot read them.
+     */
+    public static final Compressor LZ4 = new Lz4Compressor();
+
     public static boolean isCompressed(BytesReference bytes) {
         return compressor(bytes) != null;
     }
 
     @Nullable
     public static Compressor compressor(BytesReference bytes) {
-            if (COMPRESSOR.isCompressed(bytes)) {
-                // bytes should be either detected as compressed or as xcontent,
-                // if we have bytes that can be either detected as compressed or
-                // as a xcontent, we have a problem
-                assert XContentHelper.xContentType(bytes) == null;
-                return COMPRESSOR;
-            }
+        if (COMPRESSOR.isCompressed(bytes)) {
+            // bytes should be either detected as compressed or as xcontent,
+            // if we have bytes that can be either detected as compressed or
+            // as a xcontent, we have a problem
+            assert XContentHelper.xContentType(bytes) == null;
+            return COMPRESSOR;
+        }
+        if (LZ4.isCompressed(bytes)) {
+            assert XContentHelper.xContentType(bytes) == null;
+            return LZ4;
+        }
 
         XContentType contentType = XContentHelper.xContentType(bytes);
         if (contentType == null) {
@@ -0,0 +1,564 @@
+/*
+ * Licensed to Elasticsearch under one or more contributor
+ * license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright
+ * ownership. Elasticsearch licenses this file to you under
+ * the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.elasticsearch.common.compress;
+
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.io.stream.BytesStreamOutput;
+import org.elasticsearch.core.internal.io.Streams;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A pure-Java {@link Compressor} that uses the LZ4 block format. It trades some compression ratio for a much lower CPU cost than
+ * {@link DeflateCompressor}.
+ * <p>
+ * After the header the stream consists of a sequence of blocks, each holding at most {@link #BLOCK_SIZE} uncompressed bytes. A block
+ * starts with its uncompressed and compressed lengths as big-endian ints. If both lengths are equal the block is stored as is, otherwise
+ * it holds a single LZ4 compressed block. A block with an uncompressed length of {@code 0} marks the end of the stream.
+ */
+public class Lz4Compressor implements Compressor {
+
+    // An arbitrary header that we use to identify compressed streams
+    // It needs to be different from other compressors and to not be specific
+    // enough so that no stream starting with these bytes could be detected as
+    // a XContent
+    private static final byte[] HEADER = new byte[]{'L', 'Z', '4', '\0'};
+
+    static final int BLOCK_SIZE = 1 << 16;
+
+    private static final int MIN_MATCH = 4;
+    // the last match must start at least 12 bytes before the end of the block and the last 5 bytes are always literals
+    private static final int MF_LIMIT = 12;
+    private static final int LAST_LITERALS = 5;
+    private static final int MAX_DISTANCE = (1 << 16) - 1;
+    private static final int ML_BITS = 4;
+    private static final int ML_MASK = (1 << ML_BITS) - 1;
+    private static final int RUN_MASK = (1 << (8 - ML_BITS)) - 1;
+    private static final int HASH_LOG = 12;
+    // the lower bits of the number of bytes since the last match determine how many positions we skip when searching for the next match
+    private static final int SKIP_STRENGTH = 6;
+
+    @Override
+    public boolean isCompressed(BytesReference bytes) {
+        if (bytes.length() < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; ++i) {
+            if (bytes.get(i) != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int headerLength() {
+        return HEADER.length;
+    }
+
+    @Override
+    public InputStream threadLocalInputStream(InputStream in) throws IOException {
+        final byte[] headerBytes = new byte[HEADER.length];
+        int len = 0;
+        while (len < headerBytes.length) {
+            final int read = in.read(headerBytes, len, headerBytes.length - len);
+            if (read == -1) {
+                break;
+            }
+            len += read;
+        }
+        if (len != HEADER.length || Arrays.equals(headerBytes, HEADER) == false) {
+            throw new IllegalArgumentException("Input stream is not compressed with LZ4!");
+        }
+        return new Lz4InputStream(in, InputBuffers.acquire());
+    }
+
+    @Override
+    public OutputStream threadLocalOutputStream(OutputStream out) throws IOException {
+        out.write(HEADER);
+        return new Lz4OutputStream(out, OutputBuffers.acquire());
+    }
+
+    // Blocks start small and grow up to BLOCK_SIZE as needed, so that streams of small messages only use small buffers. Buffers up to
+    // RETAINED_BLOCK_SIZE are kept for re-use by the next stream on the same thread, larger ones are dropped when the stream is closed so
+    // that idle threads do not pin them.
+    static final int INITIAL_BLOCK_SIZE = 1 << 12;
+    static final int RETAINED_BLOCK_SIZE = 1 << 14;
+
+    // Reusable buffers for streaming compression and decompression
+    private static final ThreadLocal<InputBuffers> inputBuffersRef = ThreadLocal.withInitial(InputBuffers::new);
+    private static final ThreadLocal<OutputBuffers> outputBuffersRef = ThreadLocal.withInitial(OutputBuffers::new);
+
+    private static final class InputBuffers {
+        // the uncompressed block, its contents do not need to survive reading the next block
+        byte[] buffer = new byte[INITIAL_BLOCK_SIZE];
+        // the compressed block, which is never larger than the uncompressed block
+        byte[] compressed = new byte[INITIAL_BLOCK_SIZE];
+        // true if these buffers are currently used by a stream and are not available for re-use
+        boolean inUse;
+
+        static InputBuffers acquire() {
+            final InputBuffers current = inputBuffersRef.get();
+            if (current.inUse) {
+                // Nested de-compression streams should not happen but we still handle them safely by using fresh buffers
+                return new InputBuffers();
+            }
+            current.inUse = true;
+            return current;
+        }
+
+        void ensureCapacity(int blockLength) {
+            if (buffer.length < blockLength) {
+                buffer = new byte[blockLength];
+                compressed = new byte[blockLength];
+            }
+        }
+
+        void release() {
+            if (buffer.length > RETAINED_BLOCK_SIZE) {
+                buffer = new byte[INITIAL_BLOCK_SIZE];
+                compressed = new byte[INITIAL_BLOCK_SIZE];
+            }
+            inUse = false;
+        }
+    }
+
+    private static final class OutputBuffers {
+        // the uncompressed block that is being filled, it grows without flushing until it reaches BLOCK_SIZE
+        byte[] buffer = new byte[INITIAL_BLOCK_SIZE];
+        byte[] compressed = new byte[maxCompressedLength(INITIAL_BLOCK_SIZE)];
+        // only compression needs a hash table, it is small and has a fixed size
+        final int[] hashTable = new int[1 << HASH_LOG];
+        // true if these buffers are currently used by a stream and are not available for re-use
+        boolean inUse;
+
+        static OutputBuffers acquire() {
+            final OutputBuffers current = outputBuffersRef.get();
+            if (current.inUse) {
+                // Nested compression streams should not happen but we still handle them safely by using fresh buffers
+                return new OutputBuffers();
+            }
+            current.inUse = true;
+            return current;
+        }
+
+        void grow(int length) {
+            buffer = Arrays.copyOf(buffer, Math.min(BLOCK_SIZE, Math.max(buffer.length << 1, length)));
+            compressed = new byte[maxCompressedLength(buffer.length)];
+        }
+
+        void release() {
+            if (buffer.length > RETAINED_BLOCK_SIZE) {
+                buffer = new byte[INITIAL_BLOCK_SIZE];
+                compressed = new byte[maxCompressedLength(INITIAL_BLOCK_SIZE)];
+            }
+            inUse = false;
+        }
+    }
+
+    @Override
+    public BytesReference uncompress(BytesReference bytesReference) throws IOException {
+        try (BytesStreamOutput buffer = new BytesStreamOutput(Math.max(BLOCK_SIZE, bytesReference.length()))) {
+            try (InputStream in = threadLocalInputStream(bytesReference.streamInput())) {
+                Streams.copy(in, buffer, false);
+            }
+            return buffer.copyBytes();
+        }
+    }
+
+    @Override
+    public BytesReference compress(BytesReference bytesReference) throws IOException {
+        try (BytesStreamOutput buffer = new BytesStreamOutput(HEADER.length + maxCompressedLength(bytesReference.length()))) {
+            try (OutputStream out = threadLocalOutputStream(buffer)) {
+                bytesReference.writeTo(out);
+            }
+            return buffer.copyBytes();
+        }
+    }
+
+    /**
+     * Returns the maximum number of bytes that an LZ4 compressed block of {@code length} bytes may require.
+     */
+    static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    private static int readInt(byte[] buf, int offset) {
+        return (buf[offset] & 0xFF) | ((buf[offset + 1] & 0xFF) << 8) | ((buf[offset + 2] & 0xFF) << 16) | ((buf[offset + 3] & 0xFF) << 24);
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    private static int writeLength(int length, byte[] dest, int destOffset) {
+        while (length >= 0xFF) {
+            dest[destOffset++] = (byte) 0xFF;
+            length -= 0xFF;
+        }
+        dest[destOffset++] = (byte) length;
+        return destOffset;
+    }
+
+    private static int writeLiterals(int token, byte[] src, int literalOffset, int literalLength, byte[] dest, int destOffset) {
+        final int tokenOffset = destOffset++;
+        if (literalLength >= RUN_MASK) {
+            dest[tokenOffset] = (byte) (token | (RUN_MASK << ML_BITS));
+            destOffset = writeLength(literalLength - RUN_MASK, dest, destOffset);
+        } else {
+            dest[tokenOffset] = (byte) (token | (literalLength << ML_BITS));
+        }
+        System.arraycopy(src, literalOffset, dest, destOffset, literalLength);
+        return destOffset + literalLength;
+    }
+
+    /**
+     * Compresses {@code srcLength} bytes of {@code src} into {@code dest}, which must have room for at least
+     * {@link #maxCompressedLength(int)} bytes, and returns the number of bytes that were written.
+     */
+    static int compressBlock(byte[] src, int srcOffset, int srcLength, byte[] dest, int destOffset, int[] hashTable) {
+        final int srcEnd = srcOffset + srcLength;
+        int destPos = destOffset;
+        int anchor = srcOffset;
+        if (srcLength > MF_LIMIT) {
+            final int matchFindLimit = srcEnd - MF_LIMIT;
+            final int matchLimit = srcEnd - LAST_LITERALS;
+            Arrays.fill(hashTable, -1);
+            int pos = srcOffset;
+            while (pos < matchFindLimit) {
+                final int sequence = readInt(src, pos);
+                final int h = hash(sequence);
+                int ref = hashTable[h];
+                hashTable[h] = pos;
+                if (ref < 0 || pos - ref > MAX_DISTANCE || readInt(src, ref) != sequence) {
+                    pos += 1 + ((pos - anchor) >>> SKIP_STRENGTH);
+                    continue;
+                }
+                // extend the match backwards over pending literals and forwards as far as possible
+                while (pos > anchor && ref > srcOffset && src[pos - 1] == src[ref - 1]) {
+                    --pos;
+                    --ref;
+                }
+                int matchLength = MIN_MATCH;
+                while (pos + matchLength < matchLimit && src[pos + matchLength] == src[ref + matchLength]) {
+                    ++matchLength;
+                }
+
+                final int tokenOffset = destPos;
+                destPos = writeLiterals(0, src, anchor, pos - anchor, dest, destPos);
+                final int offset = pos - ref;
+                dest[destPos++] = (byte) offset;
+                dest[destPos++] = (byte) (offset >>> 8);
+                final int extraMatchLength = matchLength - MIN_MATCH;
+                if (extraMatchLength >= ML_MASK) {
+                    dest[tokenOffset] |= ML_MASK;
+                    destPos = writeLength(extraMatchLength - ML_MASK, dest, destPos);
+                } else {
+                    dest[tokenOffset] |= extraMatchLength;
+                }
+                pos += matchLength;
+                anchor = pos;
+            }
+        }
+        destPos = writeLiterals(0, src, anchor, srcEnd - anchor, dest, destPos);
+        return destPos - destOffset;
+    }
+
+    /**
+     * Decompresses an LZ4 block of {@code srcLength} bytes into exactly {@code destLength} bytes of {@code dest}.
+     */
+    static void decompressBlock(byte[] src, int srcOffset, int srcLength, byte[] dest, int destOffset, int destLength) throws IOException {
+        final int srcEnd = srcOffset + srcLength;
+        final int destEnd = destOffset + destLength;
+        int srcPos = srcOffset;
+        int destPos = destOffset;
+        while (true) {
+            if (srcPos >= srcEnd) {
+                throw new IOException("Malformed LZ4 block: missing token");
+            }
+            final int token = src[srcPos++] & 0xFF;
+            int literalLength = token >>> ML_BITS;
+            if (literalLength == RUN_MASK) {
+                int b;
+                do {
+                    if (srcPos >= srcEnd) {
+                        throw new IOException("Malformed LZ4 block: truncated literal length");
+                    }
+                    b = src[srcPos++] & 0xFF;
+                    literalLength += b;
+                } while (b == 0xFF);
+            }
+            if (literalLength > srcEnd - srcPos || literalLength > destEnd - destPos) {
+                throw new IOException("Malformed LZ4 block: literals out of bounds");
+            }
+            System.arraycopy(src, srcPos, dest, destPos, literalLength);
+            srcPos += literalLength;
+            destPos += literalLength;
+            if (srcPos == srcEnd) {
+                // the last sequence only has literals
+                break;
+            }
+
+            if (srcEnd - srcPos < 2) {
+                throw new IOException("Malformed LZ4 block: truncated match offset");
+            }
+            final int offset = (src[srcPos] & 0xFF) | ((src[srcPos + 1] & 0xFF) << 8);
+            srcPos += 2;
+            if (offset == 0 || offset > destPos - destOffset) {
+                throw new IOException("Malformed LZ4 block: invalid match offset [" + offset + "]");
+            }
+            int matchLength = token & ML_MASK;
+            if (matchLength == ML_MASK) {
+                int b;
+                do {
+                    if (srcPos >= srcEnd) {
+                        throw new IOException("Malformed LZ4 block: truncated match length");
+                    }
+                    b = src[srcPos++] & 0xFF;
+                    matchLength += b;
+                } while (b == 0xFF);
+            }
+            matchLength += MIN_MATCH;
+            if (matchLength > destEnd - destPos) {
+                throw new IOException("Malformed LZ4 block: match out of bounds");
+            }
+            final int ref = destPos - offset;
+            if (offset >= matchLength) {
+                System.arraycopy(dest, ref, dest, destPos, matchLength);
+            } else {
+                // overlapping matches repeat the last offset bytes so they must be copied byte by byte
+                for (int i = 0; i < matchLength; ++i) {
+                    dest[destPos + i] = dest[ref + i];
+                }
+            }
+            destPos += matchLength;
+        }
+        if (destPos != destEnd) {
+            throw new IOException("Malformed LZ4 block: expected [" + destLength + "] bytes but got [" + (destPos - destOffset) + "]");
+        }
+    }
+
+    private static void writeBlockHeader(OutputStream out, int uncompressedLength, int compressedLength) throws IOException {
+        final byte[] header = new byte[8];
+        header[0] = (byte) (uncompressedLength >>> 24);
+        header[1] = (byte) (uncompressedLength >>> 16);
+        header[2] = (byte) (uncompressedLength >>> 8);
+        header[3] = (byte) uncompressedLength;
+        header[4] = (byte) (compressedLength >>> 24);
+        header[5] = (byte) (compressedLength >>> 16);
+        header[6] = (byte) (compressedLength >>> 8);
+        header[7] = (byte) compressedLength;
+        out.write(header);
+    }
+
+    private static final class Lz4OutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private final OutputBuffers buffers;
+        private int bufferLength;
+        private boolean closed;
+
+        Lz4OutputStream(OutputStream out, OutputBuffers buffers) {
+            this.out = out;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureOpen();
+            ensureRoom(1);
+            buffers.buffer[bufferLength++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureOpen();
+            while (len > 0) {
+                ensureRoom(len);
+                final int toCopy = Math.min(len, buffers.buffer.length - bufferLength);
+                System.arraycopy(b, off, buffers.buffer, bufferLength, toCopy);
+                bufferLength += toCopy;
+                off += toCopy;
+                len -= toCopy;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+            writeBlock();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed == false) {
+                closed = true;
+                try {
+                    writeBlock();
+                    writeBlockHeader(out, 0, 0);
+                } finally {
+                    buffers.release();
+                    out.close();
+                }
+            }
+        }
+
+        // makes room for more bytes, growing the current block up to BLOCK_SIZE before writing it out
+        private void ensureRoom(int wanted) throws IOException {
+            if (bufferLength == buffers.buffer.length) {
+                if (buffers.buffer.length < BLOCK_SIZE) {
+                    buffers.grow(bufferLength + wanted);
+                } else {
+                    writeBlock();
+                }
+            }
+        }
+
+        private void writeBlock() throws IOException {
+            if (bufferLength == 0) {
+                return;
+            }
+            final byte[] buffer = buffers.buffer;
+            final byte[] compressed = buffers.compressed;
+            final int compressedLength = compressBlock(buffer, 0, bufferLength, compressed, 0, buffers.hashTable);
+            if (compressedLength < bufferLength) {
+                writeBlockHeader(out, bufferLength, compressedLength);
+                out.write(compressed, 0, compressedLength);
+            } else {
+                writeBlockHeader(out, bufferLength, bufferLength);
+                out.write(buffer, 0, bufferLength);
+            }
+            bufferLength = 0;
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream is already closed");
+            }
+        }
+    }
+
+    private static final class Lz4InputStream extends InputStream {
+
+        private final InputStream in;
+        private final InputBuffers buffers;
+        private final byte[] blockHeader = new byte[8];
+        private int bufferOffset;
+        private int bufferLength;
+        private boolean eos;
+        private boolean closed;
+
+        Lz4InputStream(InputStream in, InputBuffers buffers) {
+            this.in = in;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            return buffers.buffer[bufferOffset++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            final int toCopy = Math.min(len, bufferLength - bufferOffset);
+            System.arraycopy(buffers.buffer, bufferOffset, b, off, toCopy);
+            bufferOffset += toCopy;
+            return toCopy;
+        }
+
+        @Override
+        public int available() {
+            return bufferLength - bufferOffset;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed == false) {
+                closed = true;
+                buffers.release();
+                in.close();
+            }
+        }
+
+        private boolean ensureAvailable() throws IOException {
+            if (closed) {
+                throw new IOException("Stream is already closed");
+            }
+            while (bufferOffset == bufferLength) {
+                if (eos) {
+                    return false;
+                }
+                readBlock();
+            }
+            return true;
+        }
+
+        private void readBlock() throws IOException {
+            readFully(blockHeader, blockHeader.length);
+            final int uncompressedLength = ((blockHeader[0] & 0xFF) << 24) | ((blockHeader[1] & 0xFF) << 16)
+                | ((blockHeader[2] & 0xFF) << 8) | (blockHeader[3] & 0xFF);
+            final int compressedLength = ((blockHeader[4] & 0xFF) << 24) | ((blockHeader[5] & 0xFF) << 16)
+                | ((blockHeader[6] & 0xFF) << 8) | (blockHeader[7] & 0xFF);
+            bufferOffset = 0;
+            bufferLength = 0;
+            if (uncompressedLength == 0) {
+                eos = true;
+                return;
+            }
+            if (uncompressedLength < 0 || uncompressedLength > BLOCK_SIZE
+                || compressedLength <= 0 || compressedLength > uncompressedLength) {
+                throw new IOException("Malformed LZ4 stream: invalid block lengths [" + uncompressedLength + "][" + compressedLength + "]");
+            }
+            buffers.ensureCapacity(uncompressedLength);
+            if (compressedLength == uncompressedLength) {
+                readFully(buffers.buffer, uncompressedLength);
+            } else {
+                readFully(buffers.compressed, compressedLength);
+                decompressBlock(buffers.compressed, 0, compressedLength, buffers.buffer, 0, uncompressedLength);
+            }
+            bufferLength = uncompressedLength;
+        }
+
+        private void readFully(byte[] b, int len) throws IOException {
+            int read = 0;
+            while (read < len) {
+                final int r = in.read(b, read, len - read);
+                if (r == -1) {
+                    throw new EOFException("Unexpected end of LZ4 stream");
+                }
+                read += r;
+            }
+        }
+    }
+}
@@ -74,10 +74,11 @@ public final class BytesRefHash extends AbstractHash {
      * Get the id associated with <code>key</code>
      */
     public long find(BytesRef key, int code) {
-        final long slot = slot(rehash(code), mask);
+        final int rehash = rehash(code);
+        final long slot = slot(rehash, mask);
         for (long index = slot; ; index = nextSlot(index, mask)) {
             final long id = id(index);
-            if (id == -1L || key.bytesEquals(get(id, spare))) {
+            if (id == -1L || equals(id, key, rehash)) {
                 return id;
             }
         }
@@ -99,12 +100,20 @@ public final class BytesRefHash extends AbstractHash {
                 append(id, key, code);
                 ++size;
                 return id;
-            } else if (key.bytesEquals(get(curId, spare))) {
+            } else if (equals(curId, key, code)) {
                 return -1 - curId;
             }
         }
     }
 
+    /**
+     * Whether the key stored under <code>id</code> is equal to <code>key</code>. The cached hashes are compared first so
+     * that colliding keys rarely need their bytes to be read and compared.
+     */
+    private boolean equals(long id, BytesRef key, int code) {
+        return hashes.get(id) == code && key.bytesEquals(get(id, spare));
+    }
+
     private void append(long id, BytesRef key, int code) {
         assert size == id;
         final long startOffset = startOffsets.get(size);
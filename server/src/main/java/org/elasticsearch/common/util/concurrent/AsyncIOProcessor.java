@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -42,6 +44,7 @@ public abstract class AsyncIOProcessor<Item> {
     private final ArrayBlockingQueue<Tuple<Item, Consumer<Exception>>> queue;
     private final ThreadContext threadContext;
     private final Semaphore promiseSemaphore = new Semaphore(1);
+    private final AtomicInteger activeCallers = new AtomicInteger();
 
     protected AsyncIOProcessor(Logger logger, int queueSize, ThreadContext threadContext) {
         this.logger = logger;
@@ -58,7 +61,15 @@ public abstract class AsyncIOProcessor<Item> {
         // the algorithm here tires to reduce the load on each individual caller.
         // we try to have only one caller that processes pending items to disc while others just add to the queue but
         // at the same time never overload the node by pushing too many items into the queue.
+        activeCallers.incrementAndGet();
+        try {
+            doPut(item, listener);
+        } finally {
+            activeCallers.decrementAndGet();
+        }
+    }
 
+    private void doPut(Item item, Consumer<Exception> listener) {
         // we first try make a promise that we are responsible for the processing
         final boolean promised = promiseSemaphore.tryAcquire();
         if (promised == false) {
@@ -79,6 +90,13 @@ public abstract class AsyncIOProcessor<Item> {
                 // we are responsible for processing we don't need to add the tuple to the queue we can just add it to the candidates
                 // no need to preserve context for listener since it runs in current thread.
                 candidates.add(new Tuple<>(item, listener));
+                final long batchingDelayNanos = getBatchingDelayNanos();
+                if (batchingDelayNanos > 0 && queue.remainingCapacity() > 0
+                        && (queue.isEmpty() == false || activeCallers.get() > 1)) {
+                    // give concurrent callers a chance to queue their items so that they are processed by the same write, a lone
+                    // caller has nobody to wait for and processes its item right away
+                    LockSupport.parkNanos(batchingDelayNanos);
+                }
             }
             // since we made the promise to process we gotta do it here at least once
             drainAndProcessAndRelease(candidates);
@@ -135,6 +153,15 @@ public abstract class AsyncIOProcessor<Item> {
         };
     }
 
+    /**
+     * Returns the time in nanoseconds that a caller which takes over processing waits for other items to be queued before it processes
+     * its own item, so that more items are processed by a single {@link #write(List)}. The delay only applies while other callers are
+     * putting items concurrently. Defaults to {@code 0} which processes right away.
+     */
+    protected long getBatchingDelayNanos() {
+        return 0L;
+    }
+
     /**
      * Writes or processes the items out or to disk.
      */
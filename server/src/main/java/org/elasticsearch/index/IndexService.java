@@ -713,6 +713,16 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                 }
             }
         }
+
+        @Override
+        public void onGlobalOrdinalsBuilt(ShardId shardId, String fieldName, long tookInNanos) {
+            if (shardId != null) {
+                final IndexShard shard = indexService.getShardOrNull(shardId.id());
+                if (shard != null) {
+                    shard.fieldData().onGlobalOrdinalsBuilt(shardId, fieldName, tookInNanos);
+                }
+            }
+        }
     }
 
     public IndexMetadata getMetadata() {
@@ -33,6 +33,15 @@ public class IndexingPressure {
     public static final Setting<ByteSizeValue> MAX_INDEXING_BYTES =
         Setting.memorySizeSetting("indexing_pressure.memory.limit", "10%", Setting.Property.NodeScope);
 
+    /**
+     * The fraction of {@link #MAX_INDEXING_BYTES} above which coordinating nodes signal clients to slow down by adding the
+     * {@link #PRESSURE_RESPONSE_HEADER} header to bulk responses, ahead of rejecting work once the limit is reached.
+     */
+    public static final Setting<Double> SOFT_LIMIT_RATIO =
+        Setting.doubleSetting("indexing_pressure.memory.soft_limit_ratio", 1.0d, 0.0d, 1.0d, Setting.Property.NodeScope);
+
+    public static final String PRESSURE_RESPONSE_HEADER = "X-Elastic-Indexing-Pressure";
+
     private final AtomicLong currentCombinedCoordinatingAndPrimaryBytes = new AtomicLong(0);
     private final AtomicLong currentCoordinatingBytes = new AtomicLong(0);
     private final AtomicLong currentPrimaryBytes = new AtomicLong(0);
@@ -49,10 +58,12 @@ public class IndexingPressure {
 
     private final long primaryAndCoordinatingLimits;
     private final long replicaLimits;
+    private final long softLimits;
 
     public IndexingPressure(Settings settings) {
         this.primaryAndCoordinatingLimits = MAX_INDEXING_BYTES.get(settings).getBytes();
         this.replicaLimits = (long) (this.primaryAndCoordinatingLimits * 1.5);
+        this.softLimits = (long) (this.primaryAndCoordinatingLimits * SOFT_LIMIT_RATIO.get(settings));
     }
 
     public Releasable markCoordinatingOperationStarted(long bytes, boolean forceExecution) {
@@ -126,6 +137,25 @@ public class IndexingPressure {
         return () -> this.currentReplicaBytes.getAndAdd(-bytes);
     }
 
+    /**
+     * Returns whether the outstanding coordinating and primary bytes exceed the soft limit, in which case clients should be told to
+     * slow down. Replica bytes are left out since they have their own, higher limit. Always {@code false} when the soft limit ratio
+     * is left at its default of {@code 1.0}.
+     */
+    public boolean isAboveSoftLimit() {
+        return softLimits < primaryAndCoordinatingLimits && currentCombinedCoordinatingAndPrimaryBytes.get() > softLimits;
+    }
+
+    /**
+     * Returns the outstanding coordinating and primary bytes as a percentage of the coordinating and primary limit.
+     */
+    public int getCurrentUtilizationPercent() {
+        if (primaryAndCoordinatingLimits == 0) {
+            return 100;
+        }
+        return (int) Math.min(100, currentCombinedCoordinatingAndPrimaryBytes.get() * 100 / primaryAndCoordinatingLimits);
+    }
+
     public long getCurrentCombinedCoordinatingAndPrimaryBytes() {
         return currentCombinedCoordinatingAndPrimaryBytes.get();
     }
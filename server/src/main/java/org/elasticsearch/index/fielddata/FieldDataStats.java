@@ -19,12 +19,14 @@
 
 package org.elasticsearch.index.fielddata;
 
+import org.elasticsearch.Version;
 import org.elasticsearch.common.FieldMemoryStats;
 import org.elasticsearch.common.Nullable;
 import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.io.stream.StreamOutput;
 import org.elasticsearch.common.io.stream.Writeable;
 import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.common.xcontent.ToXContentFragment;
 import org.elasticsearch.common.xcontent.XContentBuilder;
 
@@ -38,8 +40,11 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
     private static final String MEMORY_SIZE_IN_BYTES = "memory_size_in_bytes";
     private static final String EVICTIONS = "evictions";
     private static final String FIELDS = "fields";
+    private static final String GLOBAL_ORDINALS_BUILD_TIME = "global_ordinals_build_time";
+    private static final String GLOBAL_ORDINALS_BUILD_TIME_IN_MILLIS = "global_ordinals_build_time_in_millis";
     private long memorySize;
     private long evictions;
+    private long globalOrdinalsBuildTimeInNanos;
     @Nullable
     private FieldMemoryStats fields;
 
@@ -51,17 +56,26 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         memorySize = in.readVLong();
         evictions = in.readVLong();
         fields = in.readOptionalWriteable(FieldMemoryStats::new);
+        if (in.getVersion().onOrAfter(Version.V_8_0_0)) {
+            globalOrdinalsBuildTimeInNanos = in.readVLong();
+        }
     }
 
     public FieldDataStats(long memorySize, long evictions, @Nullable FieldMemoryStats fields) {
+        this(memorySize, evictions, 0, fields);
+    }
+
+    public FieldDataStats(long memorySize, long evictions, long globalOrdinalsBuildTimeInNanos, @Nullable FieldMemoryStats fields) {
         this.memorySize = memorySize;
         this.evictions = evictions;
+        this.globalOrdinalsBuildTimeInNanos = globalOrdinalsBuildTimeInNanos;
         this.fields = fields;
     }
 
     public void add(FieldDataStats stats) {
         this.memorySize += stats.memorySize;
         this.evictions += stats.evictions;
+        this.globalOrdinalsBuildTimeInNanos += stats.globalOrdinalsBuildTimeInNanos;
         if (stats.fields != null) {
             if (fields == null) {
                 fields = stats.fields.copy();
@@ -83,6 +97,17 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         return this.evictions;
     }
 
+    /**
+     * The total time spent building global ordinals.
+     */
+    public TimeValue getGlobalOrdinalsBuildTime() {
+        return TimeValue.timeValueNanos(globalOrdinalsBuildTimeInNanos);
+    }
+
+    public long getGlobalOrdinalsBuildTimeInMillis() {
+        return getGlobalOrdinalsBuildTime().millis();
+    }
+
     @Nullable
     public FieldMemoryStats getFields() {
         return fields;
@@ -93,6 +118,9 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         out.writeVLong(memorySize);
         out.writeVLong(evictions);
         out.writeOptionalWriteable(fields);
+        if (out.getVersion().onOrAfter(Version.V_8_0_0)) {
+            out.writeVLong(globalOrdinalsBuildTimeInNanos);
+        }
     }
 
     @Override
@@ -100,6 +128,7 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         builder.startObject(FIELDDATA);
         builder.humanReadableField(MEMORY_SIZE_IN_BYTES, MEMORY_SIZE, getMemorySize());
         builder.field(EVICTIONS, getEvictions());
+        builder.humanReadableField(GLOBAL_ORDINALS_BUILD_TIME_IN_MILLIS, GLOBAL_ORDINALS_BUILD_TIME, getGlobalOrdinalsBuildTime());
         if (fields != null) {
             fields.toXContent(builder, FIELDS, MEMORY_SIZE_IN_BYTES, MEMORY_SIZE);
         }
@@ -114,11 +143,12 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         FieldDataStats that = (FieldDataStats) o;
         return memorySize == that.memorySize &&
             evictions == that.evictions &&
+            globalOrdinalsBuildTimeInNanos == that.globalOrdinalsBuildTimeInNanos &&
             Objects.equals(fields, that.fields);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(memorySize, evictions, fields);
+        return Objects.hash(memorySize, evictions, globalOrdinalsBuildTimeInNanos, fields);
     }
 }
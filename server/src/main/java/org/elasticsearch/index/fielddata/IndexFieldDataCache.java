@@ -55,6 +55,11 @@ public interface IndexFieldDataCache {
          * Called after the fielddata is unloaded
          */
         default void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, long sizeInBytes){}
+
+        /**
+         * Called after the global ordinals of a field are loaded during the cache phase, with the time it took to build them
+         */
+        default void onGlobalOrdinalsBuilt(ShardId shardId, String fieldName, long tookInNanos){}
     }
 
     class None implements IndexFieldDataCache {
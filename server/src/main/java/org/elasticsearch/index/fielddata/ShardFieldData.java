@@ -35,6 +35,7 @@ public class ShardFieldData implements IndexFieldDataCache.Listener {
 
     private final CounterMetric evictionsMetric = new CounterMetric();
     private final CounterMetric totalMetric = new CounterMetric();
+    private final CounterMetric globalOrdinalsBuildTimeMetric = new CounterMetric();
     private final ConcurrentMap<String, CounterMetric> perFieldTotals = ConcurrentCollections.newConcurrentMap();
 
     public FieldDataStats stats(String... fields) {
@@ -47,8 +48,8 @@ public class ShardFieldData implements IndexFieldDataCache.Listener {
                 }
             }
         }
-        return new FieldDataStats(totalMetric.count(), evictionsMetric.count(), fieldTotals == null ? null :
-            new FieldMemoryStats(fieldTotals));
+        return new FieldDataStats(totalMetric.count(), evictionsMetric.count(), globalOrdinalsBuildTimeMetric.count(),
+            fieldTotals == null ? null : new FieldMemoryStats(fieldTotals));
     }
 
     @Override
@@ -67,6 +68,11 @@ public class ShardFieldData implements IndexFieldDataCache.Listener {
         }
     }
 
+    @Override
+    public void onGlobalOrdinalsBuilt(ShardId shardId, String fieldName, long tookInNanos) {
+        globalOrdinalsBuildTimeMetric.inc(tookInNanos);
+    }
+
     @Override
     public void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, long sizeInBytes) {
         if (wasEvicted) {
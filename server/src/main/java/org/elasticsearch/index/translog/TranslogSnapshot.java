@@ -27,6 +27,9 @@ import java.nio.ByteBuffer;
 
 final class TranslogSnapshot extends BaseTranslogReader {
 
+    // operations are read from the channel in chunks of this size so that reading an operation does not require two positional reads
+    static final int READ_AHEAD_SIZE = 1 << 16;
+
     private final int totalOperations;
     private final Checkpoint checkpoint;
     protected final long length;
@@ -37,6 +40,11 @@ final class TranslogSnapshot extends BaseTranslogReader {
     private int readOperations;
     private BufferedChecksumStreamInput reuse;
 
+    // lazily allocated and released once all operations have been read since snapshots of all generations are opened up-front
+    private ByteBuffer readAheadBuffer;
+    // the position in the file of the first byte of the read-ahead buffer
+    private long readAheadPosition;
+
     /**
      * Create a snapshot of translog file channel.
      */
@@ -73,6 +81,7 @@ final class TranslogSnapshot extends BaseTranslogReader {
             }
             skippedOperations++;
         }
+        readAheadBuffer = null;
         return null;
     }
 
@@ -102,12 +111,42 @@ final class TranslogSnapshot extends BaseTranslogReader {
                 throw new IOException("read requested before position of first ops. pos [" + position + "] first op on: [" +
                     getFirstOperationOffset() + "], generation: [" + getGeneration() + "], path: [" + path + "]");
             }
+            if (buffer.remaining() <= READ_AHEAD_SIZE && readFromReadAheadBuffer(buffer, position)) {
+                return;
+            }
             Channels.readFromFileChannelWithEofException(channel, position, buffer);
         } catch (EOFException e) {
             throw new TranslogCorruptedException(path.toString(), "translog truncated", e);
         }
     }
 
+    /**
+     * Fills the given buffer from the read-ahead buffer, refilling it from the channel at the given position if it does not hold the
+     * requested bytes. Returns false if the requested bytes extend past the length of this snapshot.
+     */
+    private boolean readFromReadAheadBuffer(ByteBuffer buffer, long position) throws IOException {
+        final int toRead = buffer.remaining();
+        if (readAheadBuffer == null) {
+            readAheadBuffer = ByteBuffer.allocate(READ_AHEAD_SIZE);
+            readAheadBuffer.limit(0);
+        }
+        if (position < readAheadPosition || position + toRead > readAheadPosition + readAheadBuffer.limit()) {
+            if (position + toRead > length) {
+                return false;
+            }
+            readAheadBuffer.clear();
+            readAheadBuffer.limit(Math.toIntExact(Math.min(READ_AHEAD_SIZE, length - position)));
+            Channels.readFromFileChannelWithEofException(channel, position, readAheadBuffer);
+            readAheadBuffer.flip();
+            readAheadPosition = position;
+        }
+        final ByteBuffer source = readAheadBuffer.duplicate();
+        source.position(Math.toIntExact(position - readAheadPosition));
+        source.limit(source.position() + toRead);
+        buffer.put(source);
+        return true;
+    }
+
     @Override
     public String toString() {
         return "TranslogSnapshot{" +
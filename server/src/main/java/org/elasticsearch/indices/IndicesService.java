@@ -1352,9 +1352,10 @@ public class IndicesService extends AbstractLifecycleComponent
         if (request.requestCache() == null) {
             if (settings.getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING) == false) {
                 return false;
-            } else if (context.size() != 0) {
+            } else if (context.size() != 0 && isWriteBlocked(settings) == false) {
                 // If no request cache query parameter and shard request cache
-                // is enabled in settings don't cache for requests with size > 0
+                // is enabled in settings don't cache for requests with size > 0,
+                // unless the index is blocked for writes and its hits will not change
                 return false;
             }
         } else if (request.requestCache() == false) {
@@ -1372,6 +1373,10 @@ public class IndicesService extends AbstractLifecycleComponent
 
     }
 
+    private static boolean isWriteBlocked(IndexSettings settings) {
+        return settings.getValue(IndexMetadata.INDEX_BLOCKS_WRITE_SETTING) || settings.getValue(IndexMetadata.INDEX_READ_ONLY_SETTING);
+    }
+
 
     /**
      * Loads the cache result, computing it if needed by executing the query phase and otherwise deserializing the cached
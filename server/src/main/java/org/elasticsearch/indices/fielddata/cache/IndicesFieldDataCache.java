@@ -167,10 +167,13 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
             final Accountable accountable = cache.computeIfAbsent(key, k -> {
                 ElasticsearchDirectoryReader.addReaderCloseListener(indexReader, IndexFieldCache.this);
                 Collections.addAll(k.listeners, this.listeners);
+                final long startTimeNS = System.nanoTime();
                 final Accountable ifd = (Accountable) indexFieldData.loadGlobalDirect(indexReader);
+                final long tookInNanos = System.nanoTime() - startTimeNS;
                 for (Listener listener : k.listeners) {
                     try {
                         listener.onCache(shardId, fieldName, ifd);
+                        listener.onGlobalOrdinalsBuilt(shardId, fieldName, tookInNanos);
                     } catch (Exception e) {
                         // load anyway since listeners should not throw exceptions
                         logger.error("Failed to call listener on global ordinals loading", e);
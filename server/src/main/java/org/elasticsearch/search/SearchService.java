@@ -161,6 +161,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final Setting<Boolean> LOW_LEVEL_CANCELLATION_SETTING =
         Setting.boolSetting("search.low_level_cancellation", true, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * The maximum number of groups of segments that a single shard search may search concurrently on the
+     * {@link ThreadPool.Names#SEARCH_WORKER} thread pool. The default of {@code 1} searches segments sequentially.
+     */
+    public static final Setting<Integer> MAX_CONCURRENT_SEGMENT_SLICES_SETTING =
+        Setting.intSetting("search.max_concurrent_segment_slices", 1, 1, Property.Dynamic, Property.NodeScope);
+
     public static final TimeValue NO_TIMEOUT = timeValueMillis(-1);
     public static final Setting<TimeValue> DEFAULT_SEARCH_TIMEOUT_SETTING =
         Setting.timeSetting("search.default_search_timeout", NO_TIMEOUT, Property.Dynamic, Property.NodeScope);
@@ -201,6 +208,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile boolean lowLevelCancellation;
 
+    private volatile int maxConcurrentSegmentSlices;
+
     private volatile int maxOpenScrollContext;
 
     private final Cancellable keepAliveReaper;
@@ -249,6 +258,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
         lowLevelCancellation = LOW_LEVEL_CANCELLATION_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(LOW_LEVEL_CANCELLATION_SETTING, this::setLowLevelCancellation);
+
+        maxConcurrentSegmentSlices = MAX_CONCURRENT_SEGMENT_SLICES_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_CONCURRENT_SEGMENT_SLICES_SETTING,
+            this::setMaxConcurrentSegmentSlices);
     }
 
     private void validateKeepAlives(TimeValue defaultKeepAlive, TimeValue maxKeepAlive) {
@@ -285,6 +298,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.lowLevelCancellation = lowLevelCancellation;
     }
 
+    private void setMaxConcurrentSegmentSlices(int maxConcurrentSegmentSlices) {
+        this.maxConcurrentSegmentSlices = maxConcurrentSegmentSlices;
+    }
+
     @Override
     public void afterIndexRemoved(Index index, IndexSettings indexSettings, IndexRemovalReason reason) {
         // once an index is removed due to deletion or closing, we can just clean up all the pending search context information
@@ -770,6 +787,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 reader.indexShard().shardId(), request.getClusterAlias(), OriginalIndices.NONE);
             searchContext = new DefaultSearchContext(reader, request, shardTarget, clusterService,
                 bigArrays, threadPool::relativeTimeInMillis, timeout, fetchPhase, lowLevelCancellation);
+            final int maxSlices = maxConcurrentSegmentSlices;
+            if (maxSlices > 1) {
+                searchContext.searcher().setSliceExecutor(threadPool.executor(ThreadPool.Names.SEARCH_WORKER), maxSlices);
+            }
             // we clone the query shard context here just for rewriting otherwise we
             // might end up with incorrect state since we are using now() or script services
             // during rewrite and normalized / evaluate templates etc.
@@ -44,6 +44,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static org.elasticsearch.search.aggregations.InternalOrder.isKeyOrder;
 
@@ -256,8 +257,12 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         }
     }
 
-    private List<B> reduceMergeSort(List<InternalAggregation> aggregations,
-                                    BucketOrder reduceOrder, ReduceContext reduceContext) {
+    /**
+     * Merges the buckets of the provided aggregations, which are sorted by key, and hands each reduced bucket to the sink as soon as
+     * all buckets with its key have been seen so that callers do not need to hold all reduced buckets at once.
+     */
+    private void reduceMergeSort(List<InternalAggregation> aggregations,
+                                 BucketOrder reduceOrder, ReduceContext reduceContext, Consumer<B> sink) {
         assert isKeyOrder(reduceOrder);
         final Comparator<MultiBucketsAggregation.Bucket> cmp = reduceOrder.comparator();
         final PriorityQueue<IteratorAndCurrent<B>> pq = new PriorityQueue<>(aggregations.size()) {
@@ -274,7 +279,6 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 pq.add(new IteratorAndCurrent(terms.getBuckets().iterator()));
             }
         }
-        List<B> reducedBuckets = new ArrayList<>();
         // list of buckets coming from different shards that have the same key
         List<B> currentBuckets = new ArrayList<>();
         B lastBucket = null;
@@ -284,7 +288,7 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             if (lastBucket != null && cmp.compare(top.current(), lastBucket) != 0) {
                 // the key changes, reduce what we already buffered and reset the buffer for current buckets
                 final B reduced = reduceBucket(currentBuckets, reduceContext);
-                reducedBuckets.add(reduced);
+                sink.accept(reduced);
                 currentBuckets.clear();
             }
             lastBucket = top.current();
@@ -300,12 +304,11 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
 
         if (currentBuckets.isEmpty() == false) {
             final B reduced = reduceBucket(currentBuckets, reduceContext);
-            reducedBuckets.add(reduced);
+            sink.accept(reduced);
         }
-        return reducedBuckets;
     }
 
-    private List<B> reduceLegacy(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
+    private void reduceLegacy(List<InternalAggregation> aggregations, ReduceContext reduceContext, Consumer<B> sink) {
         Map<Object, List<B>> bucketMap = new HashMap<>();
         for (InternalAggregation aggregation : aggregations) {
             @SuppressWarnings("unchecked")
@@ -321,12 +324,10 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 }
             }
         }
-        List<B> reducedBuckets =  new ArrayList<>();
         for (List<B> sameTermBuckets : bucketMap.values()) {
             final B b = reduceBucket(sameTermBuckets, reduceContext);
-            reducedBuckets.add(b);
+            sink.accept(b);
         }
-        return reducedBuckets;
     }
 
     public InternalAggregation reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
@@ -376,23 +377,25 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
          * the provided aggregations use a different {@link InternalTerms#reduceOrder}.
          */
         BucketOrder thisReduceOrder = getReduceOrder(aggregations);
-        List<B> reducedBuckets = isKeyOrder(thisReduceOrder) ?
-            reduceMergeSort(aggregations, thisReduceOrder, reduceContext) : reduceLegacy(aggregations, reduceContext);
         final B[] list;
         if (reduceContext.isFinalReduce()) {
-            final int size = Math.min(requiredSize, reducedBuckets.size());
+            // the reduced buckets are streamed into the priority queue so that only the top buckets and their
+            // sub-aggregations are retained rather than every reduced bucket
+            final int size = Math.min(requiredSize, maxReducedBuckets(aggregations));
             // final comparator
             final BucketPriorityQueue<B> ordered = new BucketPriorityQueue<>(size, order.comparator());
-            for (B bucket : reducedBuckets) {
-                if (sumDocCountError == -1) {
+            final long finalSumDocCountError = sumDocCountError;
+            final long[] prunedDocCount = new long[1];
+            final Consumer<B> sink = bucket -> {
+                if (finalSumDocCountError == -1) {
                     bucket.docCountError = -1;
                 } else {
-                    bucket.docCountError += sumDocCountError;
+                    bucket.docCountError += finalSumDocCountError;
                 }
                 if (bucket.docCount >= minDocCount) {
                     B removed = ordered.insertWithOverflow(bucket);
                     if (removed != null) {
-                        otherDocCount += removed.getDocCount();
+                        prunedDocCount[0] += removed.getDocCount();
                         reduceContext.consumeBucketsAndMaybeBreak(-countInnerBucket(removed));
                     } else {
                         reduceContext.consumeBucketsAndMaybeBreak(1);
@@ -400,12 +403,24 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 } else {
                     reduceContext.consumeBucketsAndMaybeBreak(-countInnerBucket(bucket));
                 }
+            };
+            if (isKeyOrder(thisReduceOrder)) {
+                reduceMergeSort(aggregations, thisReduceOrder, reduceContext, sink);
+            } else {
+                reduceLegacy(aggregations, reduceContext, sink);
             }
+            otherDocCount += prunedDocCount[0];
             list = createBucketsArray(ordered.size());
             for (int i = ordered.size() - 1; i >= 0; i--) {
                 list[i] = ordered.pop();
             }
         } else {
+            List<B> reducedBuckets = new ArrayList<>();
+            if (isKeyOrder(thisReduceOrder)) {
+                reduceMergeSort(aggregations, thisReduceOrder, reduceContext, reducedBuckets::add);
+            } else {
+                reduceLegacy(aggregations, reduceContext, reducedBuckets::add);
+            }
             // we can prune the list on partial reduce if the aggregation is ordered by key
             // and not filtered (minDocCount == 0)
             int size = isKeyOrder(order) && minDocCount == 0 ? Math.min(requiredSize, reducedBuckets.size()) : reducedBuckets.size();
@@ -429,6 +444,17 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         return create(name, Arrays.asList(list), reduceContext.isFinalReduce() ? order : thisReduceOrder, docCountError, otherDocCount);
     }
 
+    /**
+     * Returns an upper bound of the number of buckets that reducing the provided aggregations can produce.
+     */
+    private int maxReducedBuckets(List<InternalAggregation> aggregations) {
+        long total = 0;
+        for (InternalAggregation aggregation : aggregations) {
+            total += ((InternalTerms<?, ?>) aggregation).getBuckets().size();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, total);
+    }
+
     @Override
     protected B reduceBucket(List<B> buckets, ReduceContext context) {
         assert buckets.size() > 0;
@@ -24,6 +24,8 @@ import org.elasticsearch.common.lease.Releasables;
 import org.elasticsearch.common.util.BigArrays;
 import org.elasticsearch.common.util.DoubleArray;
 import org.elasticsearch.common.util.LongArray;
+import org.elasticsearch.index.fielddata.FieldData;
+import org.elasticsearch.index.fielddata.NumericDoubleValues;
 import org.elasticsearch.index.fielddata.SortedNumericDoubleValues;
 import org.elasticsearch.search.DocValueFormat;
 import org.elasticsearch.search.aggregations.Aggregator;
@@ -74,6 +76,27 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        final NumericDoubleValues singleton = FieldData.unwrapSingleton(values);
+        if (singleton != null) {
+            // specialize the common single-valued case to skip the per-document value count and loop
+            return new LeafBucketCollectorBase(sub, values) {
+                @Override
+                public void collect(int doc, long bucket) throws IOException {
+                    if (bucket >= counts.size()) {
+                        counts = bigArrays.grow(counts, bucket + 1);
+                        sums = bigArrays.grow(sums, bucket + 1);
+                        compensations = bigArrays.grow(compensations, bucket + 1);
+                    }
+                    if (singleton.advanceExact(doc)) {
+                        counts.increment(bucket, 1);
+                        kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                        kahanSummation.add(singleton.doubleValue());
+                        sums.set(bucket, kahanSummation.value());
+                        compensations.set(bucket, kahanSummation.delta());
+                    }
+                }
+            };
+        }
 
         return new LeafBucketCollectorBase(sub, values) {
             @Override
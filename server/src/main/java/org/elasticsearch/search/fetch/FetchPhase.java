@@ -123,7 +123,6 @@ public class FetchPhase {
         int currentReaderIndex = -1;
         LeafReaderContext currentReaderContext = null;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
-        boolean hasSequentialDocs = hasSequentialDocs(docs);
         for (int index = 0; index < context.docIdsToLoadSize(); index++) {
             if (context.isCancelled()) {
                 throw new TaskCancelledException("cancelled");
@@ -134,12 +133,12 @@ public class FetchPhase {
                 if (currentReaderIndex != readerIndex) {
                     currentReaderContext = context.searcher().getIndexReader().leaves().get(readerIndex);
                     currentReaderIndex = readerIndex;
-                    if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader
-                            && hasSequentialDocs && docs.length >= 10) {
-                        // All the docs to fetch are adjacent but Lucene stored fields are optimized
+                    if (useSequentialStoredFieldsReader(docs, index, currentReaderContext)) {
+                        // All the docs to fetch from this segment are adjacent but Lucene stored fields are optimized
                         // for random access and don't optimize for sequential access - except for merging.
                         // So we do a little hack here and pretend we're going to do merges in order to
-                        // get better sequential access.
+                        // get better sequential access. We check each segment on its own so that a run of
+                        // adjacent docs still benefits when the other docs to fetch live in other segments.
                         SequentialStoredFieldsLeafReader lf = (SequentialStoredFieldsLeafReader) currentReaderContext.reader();
                         fieldReader = lf.getSequentialStoredFieldsReader()::visitDocument;
                     } else {
@@ -556,10 +555,35 @@ public class FetchPhase {
     }
 
     /**
-     * Returns <code>true</code> if the provided <code>docs</code> are
-     * stored sequentially (Dn = Dn-1 + 1).
+     * Returns <code>true</code> if the <code>docs</code> between <code>from</code>
+     * inclusive and <code>to</code> exclusive are stored sequentially.
      */
-    static boolean hasSequentialDocs(DocIdToIndex[] docs) {
-        return docs.length > 0 && docs[docs.length-1].docId - docs[0].docId == docs.length - 1;
+    static boolean hasSequentialDocs(DocIdToIndex[] docs, int from, int to) {
+        return to > from && docs[to - 1].docId - docs[from].docId == to - from - 1;
+    }
+
+    /**
+     * Returns <code>true</code> if the sorted <code>docs</code> to fetch from the segment of <code>leaf</code>,
+     * starting at <code>from</code>, are numerous and adjacent enough to be read with the sequential stored fields reader.
+     */
+    static boolean useSequentialStoredFieldsReader(DocIdToIndex[] docs, int from, LeafReaderContext leaf) {
+        if (leaf.reader() instanceof SequentialStoredFieldsLeafReader == false) {
+            return false;
+        }
+        final int to = endOfSegment(docs, from, leaf);
+        return to - from >= 10 && hasSequentialDocs(docs, from, to);
+    }
+
+    /**
+     * Returns the index of the first doc after <code>from</code> in the sorted
+     * <code>docs</code> that does not belong to the given segment.
+     */
+    static int endOfSegment(DocIdToIndex[] docs, int from, LeafReaderContext leaf) {
+        final int maxDocId = leaf.docBase + leaf.reader().maxDoc();
+        int to = from;
+        while (to < docs.length && docs[to].docId < maxDocId) {
+            to++;
+        }
+        return to;
     }
 }
@@ -49,8 +49,10 @@ import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.CombinedBitSet;
 import org.apache.lucene.util.SparseFixedBitSet;
+import org.apache.lucene.util.ThreadInterruptedException;
 import org.elasticsearch.common.lease.Releasable;
 import org.elasticsearch.common.lucene.search.TopDocsAndMaxScore;
+import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
 import org.elasticsearch.search.DocValueFormat;
 import org.elasticsearch.search.dfs.AggregatedDfs;
 import org.elasticsearch.search.profile.Timer;
@@ -67,6 +69,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -81,6 +86,8 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private AggregatedDfs aggregatedDfs;
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
+    private Executor sliceExecutor;
+    private int maxSlices = 1;
 
     public ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                 QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
@@ -103,6 +110,16 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         this.profiler = profiler;
     }
 
+    /**
+     * Allows searches that collect through a {@link CollectorManager} to search up to {@code maxSlices} groups of segments
+     * concurrently on the given executor. Slices that the executor has not picked up yet are searched by the calling thread.
+     */
+    public void setSliceExecutor(Executor executor, int maxSlices) {
+        assert maxSlices >= 1 : "maxSlices must be at least 1 but was " + maxSlices;
+        this.sliceExecutor = executor;
+        this.maxSlices = maxSlices;
+    }
+
     /**
      * Add a {@link Runnable} that will be run on a regular basis while accessing documents in the
      * DirectoryReader but also while collecting them and check for query cancellation or timeout.
@@ -177,10 +194,16 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     public void search(List<LeafReaderContext> leaves, Weight weight, CollectorManager manager,
             QuerySearchResult result, DocValueFormat[] formats, TotalHits totalHits) throws IOException {
         final List<Collector> collectors = new ArrayList<>(leaves.size());
-        for (LeafReaderContext ctx : leaves) {
-            final Collector collector = manager.newCollector();
-            searchLeaf(ctx, weight, collector);
-            collectors.add(collector);
+        for (int i = 0; i < leaves.size(); i++) {
+            collectors.add(manager.newCollector());
+        }
+        final int numSlices = sliceExecutor == null ? 1 : Math.min(maxSlices, leaves.size());
+        if (numSlices <= 1) {
+            for (int i = 0; i < leaves.size(); i++) {
+                searchLeaf(leaves.get(i), weight, collectors.get(i));
+            }
+        } else {
+            searchSlices(leaves, weight, collectors, numSlices);
         }
         TopFieldDocs mergedTopDocs = (TopFieldDocs) manager.reduce(collectors);
         // Lucene sets shards indexes during merging of topDocs from different collectors
@@ -194,6 +217,61 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         result.topDocs(new TopDocsAndMaxScore(mergedTopDocs, Float.NaN), formats);
     }
 
+    /**
+     * Searches the leaves in {@code numSlices} groups, each with its own thread. Leaves are dealt out round-robin so that the
+     * most competitive leaves, which callers sort first, are searched early in every slice.
+     */
+    private void searchSlices(List<LeafReaderContext> leaves, Weight weight, List<Collector> collectors,
+                              int numSlices) throws IOException {
+        final List<FutureTask<Void>> tasks = new ArrayList<>(numSlices);
+        for (int slice = 0; slice < numSlices; slice++) {
+            final int firstLeaf = slice;
+            tasks.add(new FutureTask<>(() -> {
+                for (int i = firstLeaf; i < leaves.size(); i += numSlices) {
+                    searchLeaf(leaves.get(i), weight, collectors.get(i));
+                }
+                return null;
+            }));
+        }
+        // the first slice always runs on the calling thread
+        for (int i = 1; i < tasks.size(); i++) {
+            try {
+                sliceExecutor.execute(tasks.get(i));
+            } catch (EsRejectedExecutionException e) {
+                // the slice will be searched by the calling thread below
+            }
+        }
+        // run whatever slices have not been picked up yet, this is a no-op for slices that have already started
+        for (FutureTask<Void> task : tasks) {
+            task.run();
+        }
+        // wait for all slices before returning, even on failure, so that no thread still accesses the reader afterwards
+        Throwable failure = null;
+        for (FutureTask<Void> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ThreadInterruptedException(e);
+            }
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new IOException(failure);
+        }
+    }
+
     @Override
     protected void search(List<LeafReaderContext> leaves, Weight weight, Collector collector) throws IOException {
         for (LeafReaderContext ctx : leaves) { // search each subreader
@@ -0,0 +1,142 @@
+/*
+ * Licensed to Elasticsearch under one or more contributor
+ * license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright
+ * ownership. Elasticsearch licenses this file to you under
+ * the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.elasticsearch.search.query;
+
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link CollectorManager} for the rewritten numeric sort of the {@link QueryPhase} that skips whole segments
+ * that cannot compete with the top hits that have already been collected. The primary sort is on a single-valued
+ * long or date field, so the points metadata of a segment gives the best value any of its documents can have.
+ * Once at least {@code numHits} documents were collected from segments whose documents all have a value at least
+ * as good as a bound, segments whose best value is strictly worse than that bound are skipped.
+ *
+ * This must only be used when total hits are not computed by the collectors since skipped segments are not counted.
+ */
+final class CompetitiveLeafCollectorManager implements CollectorManager<Collector, TopFieldDocs> {
+
+    private final CollectorManager<TopFieldCollector, TopFieldDocs> in;
+    private final String field;
+    private final boolean reverse;
+    private final long missingValue;
+    private final int numHits;
+    // the worst value of the segments each collector has collected, only for collectors whose segments all have values
+    private final Map<TopFieldCollector, Long> worstValues = new IdentityHashMap<>();
+    private final Set<TopFieldCollector> unboundedCollectors = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    CompetitiveLeafCollectorManager(CollectorManager<TopFieldCollector, TopFieldDocs> in, SortField sortField, int numHits) {
+        this.in = in;
+        this.field = sortField.getField();
+        this.reverse = sortField.getReverse();
+        this.missingValue = (long) sortField.getMissingValue();
+        this.numHits = numHits;
+    }
+
+    @Override
+    public Collector newCollector() throws IOException {
+        return new CompetitiveLeafCollector(in.newCollector());
+    }
+
+    private long decode(byte[] packedValue) {
+        return packedValue == null ? missingValue : LongPoint.decodeDimension(packedValue, 0);
+    }
+
+    private boolean canCompete(long bestValue) {
+        long collected = 0;
+        long bound = reverse ? Long.MAX_VALUE : Long.MIN_VALUE;
+        synchronized (worstValues) {
+            for (Map.Entry<TopFieldCollector, Long> entry : worstValues.entrySet()) {
+                final int hits = entry.getKey().getTotalHits();
+                if (hits > 0) {
+                    collected += hits;
+                    bound = reverse ? Math.min(bound, entry.getValue()) : Math.max(bound, entry.getValue());
+                }
+            }
+        }
+        if (collected < numHits) {
+            return true;
+        }
+        // ties on the bound may still win on the secondary sort fields so only strictly worse segments are skipped
+        return reverse ? bestValue >= bound : bestValue <= bound;
+    }
+
+    @Override
+    public TopFieldDocs reduce(Collection<Collector> collectors) throws IOException {
+        final List<TopFieldCollector> topFieldCollectors = new ArrayList<>(collectors.size());
+        for (Collector collector : collectors) {
+            topFieldCollectors.add(((CompetitiveLeafCollector) collector).collector);
+        }
+        return in.reduce(topFieldCollectors);
+    }
+
+    private final class CompetitiveLeafCollector extends FilterCollector {
+        private final TopFieldCollector collector;
+
+        private CompetitiveLeafCollector(TopFieldCollector collector) {
+            super(collector);
+            this.collector = collector;
+        }
+
+        @Override
+        public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+            final PointValues values = context.reader().getPointValues(field);
+            final long bestValue = values == null
+                ? missingValue
+                : decode(reverse ? values.getMaxPackedValue() : values.getMinPackedValue());
+            if (canCompete(bestValue) == false) {
+                throw new CollectionTerminatedException();
+            }
+            synchronized (worstValues) {
+                if (unboundedCollectors.contains(collector) == false) {
+                    if (values != null && values.getDocCount() == context.reader().maxDoc()) {
+                        // every document of this segment has a value that is at least as good as its worst value
+                        final long worstValue = decode(reverse ? values.getMinPackedValue() : values.getMaxPackedValue());
+                        worstValues.merge(collector, worstValue, (a, b) -> reverse ? Math.min(a, b) : Math.max(a, b));
+                    } else {
+                        // documents without a value sort last, so the hits of this collector can no longer be bounded
+                        worstValues.remove(collector);
+                        unboundedCollectors.add(collector);
+                    }
+                }
+            }
+            return super.getLeafCollector(context);
+        }
+    }
+}
@@ -291,7 +291,8 @@ public class QueryPhase {
                 boolean shouldRescore;
                 // if we are optimizing sort and there are no other collectors
                 if (sortAndFormatsForRewrittenNumericSort != null && collectors.size() == 0 && searchContext.getProfilers() == null) {
-                    shouldRescore = searchWithCollectorManager(searchContext, searcher, query, leafSorter, timeoutSet);
+                    shouldRescore = searchWithCollectorManager(searchContext, searcher, query, leafSorter,
+                        sortAndFormatsForRewrittenNumericSort.sort.getSort()[0], timeoutSet);
                 } else {
                     shouldRescore = searchWithCollector(searchContext, searcher, query, collectors, hasFilterCollector, timeoutSet);
                 }
@@ -370,7 +371,8 @@ public class QueryPhase {
      * Absence of all other collectors and parameters allows us to use TopFieldCollector directly.
      */
     private static boolean searchWithCollectorManager(SearchContext searchContext, ContextIndexSearcher searcher, Query query,
-            CheckedConsumer<List<LeafReaderContext>, IOException> leafSorter, boolean timeoutSet) throws IOException {
+            CheckedConsumer<List<LeafReaderContext>, IOException> leafSorter, SortField sortField,
+            boolean timeoutSet) throws IOException {
         final IndexReader reader = searchContext.searcher().getIndexReader();
         final int numHits = Math.min(searchContext.from() + searchContext.size(),  Math.max(1, reader.numDocs()));
         final SortAndFormats sortAndFormats = searchContext.sort();
@@ -393,12 +395,19 @@ public class QueryPhase {
 
         CollectorManager<TopFieldCollector, TopFieldDocs> sharedManager = TopFieldCollector.createSharedManager(
             sortAndFormats.sort, numHits, null, totalHitsThreshold);
+        final CollectorManager<? extends Collector, TopFieldDocs> manager;
+        if (totalHits != null) {
+            // hits don't need to be counted so segments that cannot compete with the hits collected so far can be skipped
+            manager = new CompetitiveLeafCollectorManager(sharedManager, sortField, numHits);
+        } else {
+            manager = sharedManager;
+        }
 
         List<LeafReaderContext> leaves = new ArrayList<>(searcher.getIndexReader().leaves());
         leafSorter.accept(leaves);
         try {
             Weight weight = searcher.createWeight(searcher.rewrite(query), ScoreMode.TOP_SCORES, 1f);
-            searcher.search(leaves, weight, sharedManager, searchContext.queryResult(), sortAndFormats.formats, totalHits);
+            searcher.search(leaves, weight, manager, searchContext.queryResult(), sortAndFormats.formats, totalHits);
         } catch (TimeExceededException e) {
             assert timeoutSet : "TimeExceededException thrown even though timeout wasn't set";
             if (searchContext.request().allowPartialSearchResults() == false) {
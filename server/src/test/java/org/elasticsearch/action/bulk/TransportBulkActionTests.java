@@ -40,8 +40,10 @@ import org.elasticsearch.cluster.metadata.Metadata;
 import org.elasticsearch.cluster.node.DiscoveryNode;
 import org.elasticsearch.cluster.node.DiscoveryNodeRole;
 import org.elasticsearch.cluster.service.ClusterService;
+import org.elasticsearch.common.lease.Releasable;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.util.concurrent.ThreadContext;
 import org.elasticsearch.index.IndexNotFoundException;
 import org.elasticsearch.index.IndexingPressure;
 import org.elasticsearch.index.VersionType;
@@ -66,8 +68,12 @@ import java.util.concurrent.TimeUnit;
 import static org.elasticsearch.action.bulk.TransportBulkAction.prohibitCustomRoutingOnDataStream;
 import static org.elasticsearch.cluster.metadata.MetadataCreateDataStreamServiceTests.createDataStream;
 import static org.elasticsearch.test.ClusterServiceUtils.createClusterService;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 public class TransportBulkActionTests extends ESTestCase {
 
@@ -83,10 +89,14 @@ public class TransportBulkActionTests extends ESTestCase {
         boolean indexCreated = false; // set when the "real" index is created
 
         TestTransportBulkAction() {
+            this(new IndexingPressure(Settings.EMPTY));
+        }
+
+        TestTransportBulkAction(IndexingPressure indexingPressure) {
             super(TransportBulkActionTests.this.threadPool, transportService, clusterService, null,
                     null, new ActionFilters(Collections.emptySet()), new Resolver(),
                     new AutoCreateIndex(Settings.EMPTY, clusterService.getClusterSettings(), new Resolver(), new SystemIndices(Map.of())),
-                    new IndexingPressure(Settings.EMPTY), new SystemIndices(Map.of()));
+                    indexingPressure, new SystemIndices(Map.of()));
         }
 
         @Override
@@ -160,6 +170,37 @@ public class TransportBulkActionTests extends ESTestCase {
         assertTrue(bulkAction.indexCreated);
     }
 
+    public void testIndexingPressureHeader() throws Exception {
+        IndexingPressure indexingPressure = new IndexingPressure(Settings.builder()
+            .put(IndexingPressure.MAX_INDEXING_BYTES.getKey(), "10KB")
+            .put(IndexingPressure.SOFT_LIMIT_RATIO.getKey(), 0.5)
+            .build());
+        TestTransportBulkAction action = new TestTransportBulkAction(indexingPressure);
+        ThreadContext threadContext = threadPool.getThreadContext();
+
+        // below the soft limit
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            PlainActionFuture<BulkResponse> future = PlainActionFuture.newFuture();
+            ActionTestUtils.execute(action, null, new BulkRequest().add(new DeleteRequest("index").id("id")), future);
+            future.actionGet();
+            assertThat(threadContext.getResponseHeaders(), not(hasKey(IndexingPressure.PRESSURE_RESPONSE_HEADER)));
+        }
+
+        // above the soft limit, but still below the limit at which requests are rejected
+        try (Releasable inFlight = indexingPressure.markCoordinatingOperationStarted(6 * 1024, false);
+             ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            PlainActionFuture<BulkResponse> future = PlainActionFuture.newFuture();
+            ActionTestUtils.execute(action, null, new BulkRequest().add(new DeleteRequest("index").id("id")), future);
+            future.actionGet();
+            List<String> pressure = threadContext.getResponseHeaders().get(IndexingPressure.PRESSURE_RESPONSE_HEADER);
+            assertNotNull(pressure);
+            assertEquals(1, pressure.size());
+            assertThat(pressure.get(0), endsWith("%"));
+            assertThat(Integer.parseInt(pressure.get(0).substring(0, pressure.get(0).length() - 1)), greaterThanOrEqualTo(60));
+        }
+        assertEquals(0, indexingPressure.stats().getCoordinatingRejections());
+    }
+
     public void testGetIndexWriteRequest() throws Exception {
         IndexRequest indexRequest = new IndexRequest("index").id("id1").source(Collections.emptyMap());
         UpdateRequest upsertRequest = new UpdateRequest("index", "id1").upsert(indexRequest).script(mockScript("1"));
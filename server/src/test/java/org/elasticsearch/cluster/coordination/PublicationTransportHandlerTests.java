@@ -26,11 +26,18 @@ import org.elasticsearch.cluster.Diff;
 import org.elasticsearch.cluster.coordination.CoordinationMetadata.VotingConfiguration;
 import org.elasticsearch.cluster.node.DiscoveryNode;
 import org.elasticsearch.cluster.node.DiscoveryNodes;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.compress.Compressor;
+import org.elasticsearch.common.compress.CompressorFactory;
+import org.elasticsearch.common.io.stream.InputStreamStreamInput;
+import org.elasticsearch.common.io.stream.NamedWriteableAwareStreamInput;
+import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.io.stream.StreamOutput;
 import org.elasticsearch.common.settings.ClusterSettings;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.node.Node;
 import org.elasticsearch.test.ESTestCase;
+import org.elasticsearch.test.VersionUtils;
 import org.elasticsearch.test.transport.CapturingTransport;
 import org.elasticsearch.transport.TransportService;
 
@@ -52,7 +59,7 @@ public class PublicationTransportHandlerTests extends ESTestCase {
             TransportService.NOOP_TRANSPORT_INTERCEPTOR,
             x -> localNode,
             clusterSettings, Collections.emptySet());
-        final PublicationTransportHandler handler = new PublicationTransportHandler(transportService,
+        final PublicationTransportHandler handler = new PublicationTransportHandler(Settings.EMPTY, transportService,
             writableRegistry(), pu -> null, (pu, l) -> {});
         transportService.start();
         transportService.acceptIncomingRequests();
@@ -87,4 +94,42 @@ public class PublicationTransportHandlerTests extends ESTestCase {
         assertThat(e.getCause(), instanceOf(IOException.class));
         assertThat(e.getCause().getMessage(), containsString("Simulated failure of diff serialization"));
     }
+
+    public void testPublishCompressor() throws IOException {
+        DeterministicTaskQueue deterministicTaskQueue =
+            new DeterministicTaskQueue(Settings.builder().put(Node.NODE_NAME_SETTING.getKey(), "test").build(), random());
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final DiscoveryNode localNode = new DiscoveryNode("localNode", buildNewFakeTransportAddress(), Version.CURRENT);
+        final TransportService transportService = new CapturingTransport().createTransportService(Settings.EMPTY,
+            deterministicTaskQueue.getThreadPool(),
+            TransportService.NOOP_TRANSPORT_INTERCEPTOR,
+            x -> localNode,
+            clusterSettings, Collections.emptySet());
+        final Settings settings = Settings.builder().put(PublicationTransportHandler.PUBLISH_COMPRESSOR_SETTING.getKey(), "lz4").build();
+        final PublicationTransportHandler handler = new PublicationTransportHandler(settings, transportService,
+            writableRegistry(), pu -> null, (pu, l) -> {});
+
+        assertSame(CompressorFactory.LZ4, handler.compressor(Version.CURRENT));
+        final Version oldVersion = VersionUtils.randomVersionBetween(random(),
+            Version.CURRENT.minimumCompatibilityVersion(), VersionUtils.getPreviousVersion(Version.V_8_0_0));
+        assertSame(CompressorFactory.COMPRESSOR, handler.compressor(oldVersion));
+
+        final ClusterState clusterState = CoordinationStateTests.clusterState(2L, 1L,
+            DiscoveryNodes.builder().add(localNode).localNodeId(localNode.getId()).build(),
+            VotingConfiguration.EMPTY_CONFIG, VotingConfiguration.EMPTY_CONFIG, 0L);
+        final BytesReference bytes =
+            PublicationTransportHandler.serializeFullClusterState(clusterState, Version.CURRENT, handler.compressor(Version.CURRENT));
+        final Compressor compressor = CompressorFactory.compressor(bytes);
+        assertSame(CompressorFactory.LZ4, compressor);
+        try (StreamInput in = new NamedWriteableAwareStreamInput(
+                new InputStreamStreamInput(compressor.threadLocalInputStream(bytes.streamInput())), writableRegistry())) {
+            assertTrue(in.readBoolean());
+            final ClusterState readState = ClusterState.readFrom(in, localNode);
+            assertEquals(clusterState.stateUUID(), readState.stateUUID());
+            assertEquals(clusterState.version(), readState.version());
+        }
+
+        expectThrows(IllegalArgumentException.class, () -> PublicationTransportHandler.PUBLISH_COMPRESSOR_SETTING.get(
+            Settings.builder().put(PublicationTransportHandler.PUBLISH_COMPRESSOR_SETTING.getKey(), "snappy").build()));
+    }
 }
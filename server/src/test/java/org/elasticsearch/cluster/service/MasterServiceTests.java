@@ -81,6 +81,7 @@ import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
 
 public class MasterServiceTests extends ESTestCase {
 
@@ -308,6 +309,51 @@ public class MasterServiceTests extends ESTestCase {
         }
     }
 
+    public void testExecutionStats() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ClusterStateTaskExecutor<Object> executor = new ClusterStateTaskExecutor<Object>() {
+            @Override
+            public ClusterTasksResult<Object> execute(ClusterState currentState, List<Object> tasks) {
+                ClusterState newClusterState = ClusterState.builder(currentState).build();
+                return ClusterTasksResult.builder().successes(tasks).build(newClusterState);
+            }
+
+            @Override
+            public void clusterStatePublished(ClusterChangedEvent clusterChangedEvent) {
+                latch.countDown();
+            }
+        };
+        final int numTasks = randomIntBetween(1, 10);
+        final Map<Object, ClusterStateTaskListener> tasks = new HashMap<>();
+        for (int i = 0; i < numTasks; i++) {
+            tasks.put(new Object(), new ClusterStateTaskListener() {
+                @Override
+                public void onFailure(String source, Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+        }
+
+        // anonymous classes and lambdas are grouped under the class that declares them, since their own names are not stable
+        final String executorName = MasterServiceTests.class.getName();
+        assertThat(executor.describeExecutor(), equalTo(executorName));
+        final ClusterStateTaskExecutor<Object> lambdaExecutor =
+            (currentState, taskList) -> ClusterStateTaskExecutor.ClusterTasksResult.builder().build(currentState);
+        assertThat(lambdaExecutor.describeExecutor(), equalTo(executorName));
+
+        try (MasterService masterService = createMasterService(true)) {
+            assertThat(masterService.executionStats(), not(hasKey(executorName)));
+            masterService.submitStateUpdateTasks("testExecutionStats", tasks, ClusterStateTaskConfig.build(Priority.NORMAL), executor);
+            latch.await();
+
+            final ClusterStateTaskExecutionStats stats = masterService.executionStats().get(executorName);
+            assertNotNull(stats);
+            assertThat(stats.getBatches(), equalTo(1L));
+            assertThat(stats.getTasks(), equalTo((long) numTasks));
+            assertThat(stats.getPublications(), equalTo(1L));
+        }
+    }
+
     @TestLogging(value = "org.elasticsearch.cluster.service:TRACE", reason = "to ensure that we log cluster state events on TRACE level")
     public void testClusterStateUpdateLogging() throws Exception {
         MockLogAppender mockAppender = new MockLogAppender();
@@ -47,4 +47,10 @@ public class CacheBuilderTests extends ESTestCase {
         Cache<Object, Object> cache = CacheBuilder.builder().setExpireAfterWrite(timeValue).build();
         assertEquals(timeValue.getNanos(), cache.getExpireAfterWriteNanos());
     }
+
+    public void testSettingReadBuffered() {
+        assertFalse(CacheBuilder.builder().build().isReadBuffered());
+        assertTrue(CacheBuilder.builder().setReadBuffered(true).build().isReadBuffered());
+        assertFalse(CacheBuilder.builder().setReadBuffered(false).build().isReadBuffered());
+    }
 }
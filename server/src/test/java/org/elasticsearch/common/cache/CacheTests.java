@@ -49,6 +49,7 @@ import java.util.stream.Collectors;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class CacheTests extends ESTestCase {
     private int numberOfEntries;
@@ -410,6 +411,116 @@ public class CacheTests extends ESTestCase {
         }
     }
 
+    public void testBufferedPromotion() {
+        AtomicLong now = new AtomicLong();
+        Cache<Integer, String> cache = new Cache<Integer, String>() {
+            @Override
+            protected long now() {
+                return now.get();
+            }
+        };
+        cache.setExpireAfterAccessNanos(1);
+        cache.setReadBuffered(true);
+        now.set(0);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        now.set(1);
+        Set<Integer> promotedKeys = new HashSet<>();
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (rarely()) {
+                cache.get(i);
+                promotedKeys.add(i);
+            }
+        }
+        now.set(2);
+        // a single thread never contends on the LRU lock so no promotion is dropped and all of them are applied on refresh
+        cache.refresh();
+        assertEquals(promotedKeys.size(), cache.count());
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (promotedKeys.contains(i)) {
+                assertNotNull(cache.get(i));
+            } else {
+                assertNull(cache.get(i));
+            }
+        }
+    }
+
+    public void testBufferedPromotionSkipsInvalidatedEntries() {
+        final Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder().setReadBuffered(true).build();
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        for (int i = 0; i < numberOfEntries; i++) {
+            assertEquals(Integer.toString(i), cache.get(i));
+            if (i % 2 == 0) {
+                cache.invalidate(i);
+            }
+        }
+        cache.refresh();
+        assertEquals(numberOfEntries / 2, cache.count());
+        int count = 0;
+        for (Integer key : cache.keys()) {
+            assertEquals(1, key % 2);
+            count++;
+        }
+        assertEquals(numberOfEntries / 2, count);
+    }
+
+
+    public void testConcurrentBufferedPromotionAndEviction() throws Exception {
+        final int maximumWeight = randomIntBetween(8, 64);
+        final AtomicLong evictions = new AtomicLong();
+        final Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder()
+            .setMaximumWeight(maximumWeight)
+            .setReadBuffered(true)
+            .removalListener(notification -> {
+                assertEquals(RemovalNotification.RemovalReason.EVICTED, notification.getRemovalReason());
+                evictions.incrementAndGet();
+            })
+            .build();
+        final int numberOfThreads = randomIntBetween(2, 8);
+        final int numberOfKeys = maximumWeight * 4;
+        final AtomicLong puts = new AtomicLong();
+        final CyclicBarrier barrier = new CyclicBarrier(1 + numberOfThreads);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            final Random random = new Random(randomLong());
+            final Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                    for (int j = 0; j < 10_000; j++) {
+                        final int key = random.nextInt(numberOfKeys);
+                        if (cache.get(key) == null && random.nextBoolean()) {
+                            cache.computeIfAbsent(key, k -> {
+                                puts.incrementAndGet();
+                                return Integer.toString(k);
+                            });
+                        }
+                    }
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        barrier.await();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // applies all outstanding promotions, none of which may bring back an entry that was evicted
+        cache.refresh();
+        assertThat(cache.count(), lessThanOrEqualTo(maximumWeight));
+        assertEquals(puts.get() - evictions.get(), cache.count());
+        final List<Integer> keys = new ArrayList<>();
+        cache.keys().forEach(keys::add);
+        assertEquals(cache.count(), keys.size());
+        for (Integer key : keys) {
+            assertEquals(Integer.toString(key), cache.get(key));
+        }
+    }
 
     // randomly invalidate some cached entries, then check that a lookup for each of those and only those keys is null
     public void testInvalidate() {
@@ -37,7 +37,11 @@ import java.util.concurrent.CountDownLatch;
  */
 public class DeflateCompressTests extends ESTestCase {
 
-    private final Compressor compressor = new DeflateCompressor();
+    private final Compressor compressor = newCompressor();
+
+    protected Compressor newCompressor() {
+        return new DeflateCompressor();
+    }
 
     public void testRandom() throws IOException {
         Random r = random();
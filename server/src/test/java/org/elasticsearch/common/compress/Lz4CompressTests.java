@@ -0,0 +1,130 @@
+/*
+ * Licensed to Elasticsearch under one or more contributor
+ * license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright
+ * ownership. Elasticsearch licenses this file to you under
+ * the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.elasticsearch.common.compress;
+
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.bytes.BytesReference;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Runs the streaming compression tests against the {@link Lz4Compressor}
+ */
+public class Lz4CompressTests extends DeflateCompressTests {
+
+    @Override
+    protected Compressor newCompressor() {
+        return new Lz4Compressor();
+    }
+
+    public void testCompressUncompressRoundTrip() throws IOException {
+        final byte[] bytes = randomRealisticUnicodeOfLengthBetween(0, 200_000).getBytes(StandardCharsets.UTF_8);
+        final Compressor compressor = new Lz4Compressor();
+        final BytesReference compressed = compressor.compress(new BytesArray(bytes));
+        assertTrue(compressor.isCompressed(compressed));
+        assertSame(CompressorFactory.LZ4, CompressorFactory.compressor(compressed));
+        assertEquals(new BytesArray(bytes), CompressorFactory.uncompress(compressed));
+    }
+
+    public void testTruncatedStream() throws IOException {
+        final byte[] bytes = randomAlphaOfLengthBetween(100, 10_000).getBytes(StandardCharsets.UTF_8);
+        final BytesReference compressed = new Lz4Compressor().compress(new BytesArray(bytes));
+        final BytesReference truncated = compressed.slice(0, randomIntBetween(new Lz4Compressor().headerLength() + 1,
+            compressed.length() - 1));
+        expectThrows(IOException.class, () -> new Lz4Compressor().uncompress(truncated));
+    }
+
+    public void testReusedAndNestedStreams() throws IOException {
+        final Compressor compressor = new Lz4Compressor();
+        for (int i = 0; i < 10; i++) {
+            // streams on the same thread reuse their buffers, which must not leak any state from the previous stream
+            final byte[] bytes = randomRealisticUnicodeOfLengthBetween(0, 200_000).getBytes(StandardCharsets.UTF_8);
+            assertEquals(new BytesArray(bytes), compressor.uncompress(compressor.compress(new BytesArray(bytes))));
+        }
+
+        final byte[] outerBytes = randomAlphaOfLengthBetween(0, 100_000).getBytes(StandardCharsets.UTF_8);
+        final byte[] innerBytes = randomAlphaOfLengthBetween(0, 100_000).getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream outer = new ByteArrayOutputStream();
+        final ByteArrayOutputStream inner = new ByteArrayOutputStream();
+        try (OutputStream outerStream = compressor.threadLocalOutputStream(outer)) {
+            outerStream.write(outerBytes, 0, outerBytes.length / 2);
+            try (OutputStream innerStream = compressor.threadLocalOutputStream(inner)) {
+                innerStream.write(innerBytes);
+            }
+            outerStream.write(outerBytes, outerBytes.length / 2, outerBytes.length - outerBytes.length / 2);
+        }
+        assertEquals(new BytesArray(outerBytes), compressor.uncompress(new BytesArray(outer.toByteArray())));
+        assertEquals(new BytesArray(innerBytes), compressor.uncompress(new BytesArray(inner.toByteArray())));
+    }
+
+    public void testNestedInputStreams() throws IOException {
+        final Compressor compressor = new Lz4Compressor();
+        // larger than a block so that both streams grow their buffers past what is retained for re-use
+        final byte[] outerBytes = randomAlphaOfLengthBetween(Lz4Compressor.BLOCK_SIZE, 200_000).getBytes(StandardCharsets.UTF_8);
+        final byte[] innerBytes = randomAlphaOfLengthBetween(Lz4Compressor.BLOCK_SIZE, 200_000).getBytes(StandardCharsets.UTF_8);
+        final BytesReference outerCompressed = compressor.compress(new BytesArray(outerBytes));
+        final BytesReference innerCompressed = compressor.compress(new BytesArray(innerBytes));
+
+        final byte[] outerRead = new byte[outerBytes.length];
+        try (InputStream outerStream = compressor.threadLocalInputStream(outerCompressed.streamInput())) {
+            final int half = outerBytes.length / 2;
+            readFully(outerStream, outerRead, 0, half);
+            try (InputStream innerStream = compressor.threadLocalInputStream(innerCompressed.streamInput())) {
+                // the inner stream must not use the buffers of the outer stream, which still holds a partially read block
+                final byte[] innerRead = new byte[innerBytes.length];
+                readFully(innerStream, innerRead, 0, innerRead.length);
+                assertEquals(-1, innerStream.read());
+                assertArrayEquals(innerBytes, innerRead);
+            }
+            readFully(outerStream, outerRead, half, outerRead.length - half);
+            assertEquals(-1, outerStream.read());
+        }
+        assertArrayEquals(outerBytes, outerRead);
+
+        // the thread-local buffers are usable again once the nested streams are closed
+        assertEquals(new BytesArray(innerBytes), compressor.uncompress(innerCompressed));
+    }
+
+    public void testSingleByteWrites() throws IOException {
+        final Compressor compressor = new Lz4Compressor();
+        // single byte writes grow the block one byte at a time past each intermediate buffer size
+        final byte[] bytes = randomAlphaOfLengthBetween(0, 3 * Lz4Compressor.BLOCK_SIZE).getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream stream = compressor.threadLocalOutputStream(out)) {
+            for (byte b : bytes) {
+                stream.write(b);
+            }
+        }
+        assertEquals(new BytesArray(bytes), compressor.uncompress(new BytesArray(out.toByteArray())));
+    }
+
+    private static void readFully(InputStream in, byte[] bytes, int offset, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            final int r = in.read(bytes, offset + read, length - read);
+            assertNotEquals(-1, r);
+            read += r;
+        }
+    }
+}
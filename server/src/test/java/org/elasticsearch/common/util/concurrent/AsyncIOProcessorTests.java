@@ -27,16 +27,20 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.Matchers.lessThan;
+
 public class AsyncIOProcessorTests extends ESTestCase {
 
     private ThreadContext threadContext;
@@ -285,4 +289,74 @@ public class AsyncIOProcessorTests extends ESTestCase {
         assertEquals(threadCount, received.get());
         threads.forEach(t -> assertFalse(t.isAlive()));
     }
+
+    public void testBatchingDelay() throws Exception {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        AsyncIOProcessor<Object> processor = new AsyncIOProcessor<Object>(logger, scaledRandomIntBetween(2, 2024), threadContext) {
+            @Override
+            protected long getBatchingDelayNanos() {
+                return TimeUnit.SECONDS.toNanos(30);
+            }
+
+            @Override
+            protected void write(List<Tuple<Object, Consumer<Exception>>> candidates) throws IOException {
+                batchSizes.add(candidates.size());
+            }
+        };
+        AtomicInteger notified = new AtomicInteger(0);
+        // the first caller is alone, so it processes its item right away and then stays in flight while it notifies its listener
+        CountDownLatch firstNotified = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        Thread first = new Thread(() -> processor.put(new Object(), e -> {
+            notified.incrementAndGet();
+            firstNotified.countDown();
+            try {
+                releaseFirst.await();
+            } catch (InterruptedException ex) {
+                throw new AssertionError(ex);
+            }
+        }), getTestName());
+        first.start();
+        assertTrue(firstNotified.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(1), batchSizes);
+
+        // the second caller takes over processing while the first one is still in flight, so it waits for other items
+        Thread second = new Thread(() -> processor.put(new Object(), e -> notified.incrementAndGet()), getTestName());
+        second.start();
+        assertBusy(() -> assertEquals(Thread.State.TIMED_WAITING, second.getState()));
+        processor.put(new Object(), e -> notified.incrementAndGet());
+        assertEquals(1, notified.get());
+        LockSupport.unpark(second);
+        second.join(20000);
+        assertFalse(second.isAlive());
+        assertEquals(3, notified.get());
+        assertEquals(List.of(1, 2), batchSizes);
+
+        releaseFirst.countDown();
+        first.join(20000);
+        assertFalse(first.isAlive());
+    }
+
+    public void testNoBatchingDelayForLoneCaller() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        AsyncIOProcessor<Object> processor = new AsyncIOProcessor<Object>(logger, scaledRandomIntBetween(2, 2024), threadContext) {
+            @Override
+            protected long getBatchingDelayNanos() {
+                return TimeUnit.SECONDS.toNanos(30);
+            }
+
+            @Override
+            protected void write(List<Tuple<Object, Consumer<Exception>>> candidates) throws IOException {
+                batchSizes.add(candidates.size());
+            }
+        };
+        AtomicInteger notified = new AtomicInteger(0);
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            processor.put(new Object(), e -> notified.incrementAndGet());
+        }
+        assertThat(System.nanoTime() - startNanos, lessThan(TimeUnit.SECONDS.toNanos(30)));
+        assertEquals(3, notified.get());
+        assertEquals(List.of(1, 1, 1), batchSizes);
+    }
 }
@@ -51,6 +51,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import static org.elasticsearch.index.shard.IndexShardTestCase.getEngine;
 import static org.elasticsearch.test.InternalSettingsPlugin.TRANSLOG_RETENTION_CHECK_INTERVAL_SETTING;
 import static org.elasticsearch.test.hamcrest.ElasticsearchAssertions.assertAcked;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 /** Unit test(s) for IndexService */
@@ -312,6 +313,22 @@ public class IndexServiceTests extends ESSingleNodeTestCase {
         });
     }
 
+    public void testGlobalOrdinalsBuildTimeIsReported() throws Exception {
+        IndexService indexService = createIndex("test", Settings.builder()
+            .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), -1).build(),
+            "_doc", "field", "type=keyword,eager_global_ordinals=true");
+        IndexShard shard = indexService.getShard(0);
+        assertEquals(0L, shard.fieldDataStats().getGlobalOrdinalsBuildTime().nanos());
+
+        // global ordinals are only built once there is more than one segment
+        client().prepareIndex("test").setId("0").setSource("field", "foo").get();
+        client().admin().indices().prepareRefresh("test").get();
+        client().prepareIndex("test").setId("1").setSource("field", "bar").get();
+        client().admin().indices().prepareRefresh("test").get();
+
+        assertThat(shard.fieldDataStats().getGlobalOrdinalsBuildTime().nanos(), greaterThan(0L));
+    }
+
     public void testAsyncFsyncActuallyWorks() throws Exception {
         Settings settings = Settings.builder()
             .put(IndexSettings.INDEX_TRANSLOG_SYNC_INTERVAL_SETTING.getKey(), "100ms") // very often :)
@@ -142,4 +142,34 @@ public class IndexingPressureTests extends ESTestCase {
         }
         assertEquals(0, indexingPressure.stats().getCurrentCoordinatingBytes());
     }
+
+    public void testSoftLimit() {
+        Settings softLimitSettings = Settings.builder()
+            .put(IndexingPressure.MAX_INDEXING_BYTES.getKey(), "10KB")
+            .put(IndexingPressure.SOFT_LIMIT_RATIO.getKey(), 0.5)
+            .build();
+        IndexingPressure indexingPressure = new IndexingPressure(softLimitSettings);
+        try (Releasable coordinating = indexingPressure.markCoordinatingOperationStarted(1024 * 3, false)) {
+            assertFalse(indexingPressure.isAboveSoftLimit());
+            assertEquals(30, indexingPressure.getCurrentUtilizationPercent());
+            try (Releasable replica = indexingPressure.markReplicaOperationStarted(1024 * 6, false)) {
+                // replica bytes have their own limit and do not count towards the soft limit
+                assertFalse(indexingPressure.isAboveSoftLimit());
+                assertEquals(30, indexingPressure.getCurrentUtilizationPercent());
+            }
+            try (Releasable primary = indexingPressure.markPrimaryOperationStarted(1024 * 3, false)) {
+                assertTrue(indexingPressure.isAboveSoftLimit());
+                assertEquals(60, indexingPressure.getCurrentUtilizationPercent());
+            }
+        }
+        assertFalse(indexingPressure.isAboveSoftLimit());
+        assertEquals(0, indexingPressure.getCurrentUtilizationPercent());
+        assertEquals(0, indexingPressure.stats().getCoordinatingRejections());
+
+        // disabled by default
+        IndexingPressure defaultIndexingPressure = new IndexingPressure(settings);
+        try (Releasable coordinating = defaultIndexingPressure.markCoordinatingOperationStarted(1024 * 9, false)) {
+            assertFalse(defaultIndexingPressure.isAboveSoftLimit());
+        }
+    }
 }
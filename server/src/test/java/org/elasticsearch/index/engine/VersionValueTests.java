@@ -26,12 +26,23 @@ import org.elasticsearch.test.ESTestCase;
 public class VersionValueTests extends ESTestCase {
 
     public void testIndexRamBytesUsed() {
+        Translog.Location translogLoc = new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt());
+        IndexVersionValue withLocation = new IndexVersionValue(translogLoc, randomLong(), randomLong(), randomLong());
+        IndexVersionValue withoutLocation = new IndexVersionValue(null, randomLong(), randomLong(), randomLong());
+        assertEquals(RamUsageTester.sizeOf(withLocation), withLocation.ramBytesUsed());
+        assertEquals(RamUsageTester.sizeOf(withoutLocation), withoutLocation.ramBytesUsed());
+        // the location is inlined, so entries take the same space whether they have one or not
+        assertEquals(withLocation.ramBytesUsed(), withoutLocation.ramBytesUsed());
+    }
+
+    public void testIndexLocation() {
         Translog.Location translogLoc = null;
         if (randomBoolean()) {
             translogLoc = new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt());
         }
         IndexVersionValue versionValue = new IndexVersionValue(translogLoc, randomLong(), randomLong(), randomLong());
-        assertEquals(RamUsageTester.sizeOf(versionValue), versionValue.ramBytesUsed());
+        assertEquals(translogLoc, versionValue.getLocation());
+        assertEquals(versionValue, new IndexVersionValue(translogLoc, versionValue.version, versionValue.seqNo, versionValue.term));
     }
 
     public void testDeleteRamBytesUsed() {
@@ -633,6 +633,25 @@ public class TranslogTests extends ESTestCase {
         }
     }
 
+    public void testSnapshotWithOperationsLargerThanReadAhead() throws IOException {
+        ArrayList<Translog.Operation> ops = new ArrayList<>();
+        final int numOps = randomIntBetween(1, 50);
+        for (int i = 0; i < numOps; i++) {
+            final int size = rarely()
+                ? randomIntBetween(TranslogSnapshot.READ_AHEAD_SIZE, TranslogSnapshot.READ_AHEAD_SIZE * 2)
+                : randomIntBetween(1, 1024);
+            final byte[] source = new byte[size];
+            random().nextBytes(source);
+            addToTranslogAndList(translog, ops, new Translog.Index(Integer.toString(i), i, primaryTerm.get(), source));
+            if (rarely()) {
+                translog.rollGeneration();
+            }
+        }
+        try (Translog.Snapshot snapshot = translog.newSnapshot()) {
+            assertThat(snapshot, containsOperationsInAnyOrder(ops));
+        }
+    }
+
     public void testSnapshotOnClosedTranslog() throws IOException {
         assertTrue(Files.exists(translogDir.resolve(Translog.getFilename(1))));
         translog.add(new Translog.Index("1", 0, primaryTerm.get(), new byte[]{1}));
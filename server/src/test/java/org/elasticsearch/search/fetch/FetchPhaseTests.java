@@ -19,8 +19,21 @@
 
 package org.elasticsearch.search.fetch;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.store.Directory;
+import org.elasticsearch.common.lucene.index.ElasticsearchDirectoryReader;
+import org.elasticsearch.core.internal.io.IOUtils;
+import org.elasticsearch.index.shard.ShardId;
 import org.elasticsearch.test.ESTestCase;
 
+import java.io.IOException;
+import java.util.List;
+
 public class FetchPhaseTests extends ESTestCase {
     public void testSequentialDocs() {
         FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[10];
@@ -29,7 +42,7 @@ public class FetchPhaseTests extends ESTestCase {
             docs[i] = new FetchPhase.DocIdToIndex(start, i);
             ++ start;
         }
-        assertTrue(FetchPhase.hasSequentialDocs(docs));
+        assertTrue(FetchPhase.hasSequentialDocs(docs, 0, docs.length));
 
         int from = randomIntBetween(0, 9);
         start = docs[from].docId;
@@ -37,6 +50,72 @@ public class FetchPhaseTests extends ESTestCase {
             start += randomIntBetween(2, 10);
             docs[i] = new FetchPhase.DocIdToIndex(start, i);
         }
-        assertFalse(FetchPhase.hasSequentialDocs(docs));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 0, docs.length));
+    }
+
+    public void testSequentialDocsInRange() {
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[20];
+        int start = randomIntBetween(0, Short.MAX_VALUE);
+        for (int i = 0; i < 5; i++) {
+            start += randomIntBetween(2, 10);
+            docs[i] = new FetchPhase.DocIdToIndex(start, i);
+        }
+        start += randomIntBetween(2, 10);
+        for (int i = 5; i < 15; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(++start, i);
+        }
+        for (int i = 15; i < 20; i++) {
+            start += randomIntBetween(2, 10);
+            docs[i] = new FetchPhase.DocIdToIndex(start, i);
+        }
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 0, docs.length));
+        assertTrue(FetchPhase.hasSequentialDocs(docs, 5, 15));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 4, 15));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 5, 16));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 5, 5));
+    }
+
+    public void testSequentialDocsPerSegment() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+        for (int segment = 0; segment < 3; segment++) {
+            int numDocs = randomIntBetween(20, 50);
+            for (int i = 0; i < numDocs; i++) {
+                w.addDocument(new Document());
+            }
+            w.commit();
+        }
+        DirectoryReader reader = DirectoryReader.open(w);
+        w.close();
+        ElasticsearchDirectoryReader esReader = ElasticsearchDirectoryReader.wrap(reader, new ShardId("index", "_na_", 0));
+        List<LeafReaderContext> leaves = esReader.leaves();
+        assertEquals(3, leaves.size());
+
+        // a few scattered docs in the first segment, the last 12 docs of the second segment and the
+        // first 5 docs of the third segment, so that a single run of adjacent docs spans two segments
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[20];
+        for (int i = 0; i < 3; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(i * 2, i);
+        }
+        int start = leaves.get(1).docBase + leaves.get(1).reader().maxDoc() - 12;
+        for (int i = 3; i < 20; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(start++, i);
+        }
+        assertTrue(FetchPhase.hasSequentialDocs(docs, 3, 20));
+
+        assertEquals(3, FetchPhase.endOfSegment(docs, 0, leaves.get(0)));
+        assertEquals(15, FetchPhase.endOfSegment(docs, 3, leaves.get(1)));
+        assertEquals(leaves.get(1).docBase + leaves.get(1).reader().maxDoc(), docs[15].docId);
+        assertEquals(leaves.get(2).docBase, docs[15].docId);
+        assertEquals(20, FetchPhase.endOfSegment(docs, 15, leaves.get(2)));
+
+        // only the second segment has enough adjacent docs to use the sequential reader
+        assertFalse(FetchPhase.useSequentialStoredFieldsReader(docs, 0, leaves.get(0)));
+        assertTrue(FetchPhase.useSequentialStoredFieldsReader(docs, 3, leaves.get(1)));
+        assertFalse(FetchPhase.useSequentialStoredFieldsReader(docs, 15, leaves.get(2)));
+        // readers that do not support sequential access always use the regular reader
+        assertFalse(FetchPhase.useSequentialStoredFieldsReader(docs, 3, reader.leaves().get(1)));
+
+        IOUtils.close(esReader, dir);
     }
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to Elasticsearch under one or more contributor
+ * license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright
+ * ownership. Elasticsearch licenses this file to you under
+ * the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.elasticsearch.search.query;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.Directory;
+import org.elasticsearch.core.internal.io.IOUtils;
+import org.elasticsearch.test.ESTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class CompetitiveLeafCollectorManagerTests extends ESTestCase {
+
+    public void testSkipsNonCompetitiveSegments() throws IOException {
+        final boolean reverse = randomBoolean();
+        final int numSegments = randomIntBetween(2, 6);
+        final int docsPerSegment = 10;
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+        for (int i = 0; i < numSegments; i++) {
+            for (int j = 0; j < docsPerSegment; j++) {
+                final long value = i * 100 + j;
+                Document doc = new Document();
+                doc.add(new LongPoint("rank", value));
+                doc.add(new NumericDocValuesField("rank", value));
+                w.addDocument(doc);
+            }
+            w.commit();
+        }
+        w.close();
+        DirectoryReader reader = DirectoryReader.open(dir);
+
+        SortField sortField = new SortField("rank", SortField.Type.LONG, reverse);
+        sortField.setMissingValue(reverse ? Long.MIN_VALUE : Long.MAX_VALUE);
+        final int numHits = randomIntBetween(1, docsPerSegment);
+        final List<TopFieldCollector> topFieldCollectors = new ArrayList<>();
+        CollectorManager<TopFieldCollector, TopFieldDocs> sharedManager =
+            TopFieldCollector.createSharedManager(new Sort(sortField), numHits, null, 1);
+        CompetitiveLeafCollectorManager manager = new CompetitiveLeafCollectorManager(new CollectorManager<>() {
+            @Override
+            public TopFieldCollector newCollector() throws IOException {
+                TopFieldCollector collector = sharedManager.newCollector();
+                topFieldCollectors.add(collector);
+                return collector;
+            }
+
+            @Override
+            public TopFieldDocs reduce(Collection<TopFieldCollector> collectors) throws IOException {
+                return sharedManager.reduce(collectors);
+            }
+        }, sortField, numHits);
+
+        List<LeafReaderContext> leaves = new ArrayList<>(reader.leaves());
+        QueryPhase.createLeafSorter(sortField).accept(leaves);
+        List<Collector> collectors = new ArrayList<>();
+        for (LeafReaderContext leaf : leaves) {
+            Collector collector = manager.newCollector();
+            new IndexSearcher(leaf.reader()).search(new MatchAllDocsQuery(), collector);
+            collectors.add(collector);
+        }
+        TopFieldDocs topDocs = manager.reduce(collectors);
+
+        // only the most competitive segment is collected, all other ones are skipped
+        int collected = 0;
+        for (TopFieldCollector collector : topFieldCollectors) {
+            collected += collector.getTotalHits();
+        }
+        assertEquals(docsPerSegment, collected);
+        assertEquals(numHits, topDocs.scoreDocs.length);
+        for (int i = 0; i < numHits; i++) {
+            final long expected = reverse ? (numSegments - 1) * 100 + docsPerSegment - 1 - i : i;
+            assertEquals(expected, ((FieldDoc) topDocs.scoreDocs[i]).fields[0]);
+        }
+        IOUtils.close(reader, dir);
+    }
+}